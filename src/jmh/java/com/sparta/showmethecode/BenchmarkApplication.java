@@ -0,0 +1,30 @@
+package com.sparta.showmethecode;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 벤치마크용 애플리케이션 실행 (테스트와 같은 H2 설정, SQL/INFO 로그 제외)
+ */
+public class BenchmarkApplication {
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        List<String> args = new ArrayList<>(Arrays.asList(
+                "--spring.config.location=classpath:/application-test.yml",
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--logging.level.root=WARN",
+                "--search.index.path=" + System.getProperty("java.io.tmpdir") + "/smtc-benchmark/review-request.idx",
+                "--security.revocation.path=" + System.getProperty("java.io.tmpdir") + "/smtc-benchmark/revoked-tokens.dat"
+        ));
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        return SpringApplication.run(ShowMeTheCodeApplication.class, args.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.BenchmarkApplication;
+import com.sparta.showmethecode.domain.MoveUriType;
+import com.sparta.showmethecode.domain.ReviewRequest;
+import com.sparta.showmethecode.domain.ReviewRequestStatus;
+import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.domain.UserRole;
+import com.sparta.showmethecode.repository.NotificationRepository;
+import com.sparta.showmethecode.repository.ReviewRequestRepository;
+import com.sparta.showmethecode.repository.UserRepository;
+import com.sparta.showmethecode.service.NotificationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장 방식별 알림 처리량 (notifications/sec)
+ * 버퍼 방식은 호출이 바로 반환되므로 보낸 알림이 모두 저장될 때까지 기다린 시간까지 포함해 측정한다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NotificationPersistenceBenchmark {
+
+    static final int NOTIFICATIONS = 1000;
+
+    @Param({"sync", "buffered"})
+    String mode;
+
+    ConfigurableApplicationContext context;
+    NotificationService notificationService;
+    NotificationRepository notificationRepository;
+    User receiver;
+    ReviewRequest review;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("notification.persistence.mode=" + mode);
+        notificationService = context.getBean(NotificationService.class);
+        notificationRepository = context.getBean(NotificationRepository.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        receiver = userRepository.save(new User("benchmark_receiver", "password", "수신자", UserRole.ROLE_REVIEWER, 0, 0, 0.0));
+        User requester = userRepository.save(new User("benchmark_requester", "password", "요청자", UserRole.ROLE_USER, 0, 0, 0.0));
+        review = context.getBean(ReviewRequestRepository.class)
+                .save(new ReviewRequest(requester, receiver, "제목", "내용", ReviewRequestStatus.UNSOLVE, "JAVA"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NOTIFICATIONS)
+    public void send() throws InterruptedException {
+        long expected = notificationRepository.count() + NOTIFICATIONS;
+        for (int i = 0; i < NOTIFICATIONS; i++) {
+            notificationService.send(receiver, review, "새로운 리뷰 요청이 도착했습니다!", MoveUriType.ANSWER);
+        }
+
+        while (notificationRepository.count() < expected) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.showmethecode.repository;
+
+import com.sparta.showmethecode.notification.SseConnection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 1건 전송 시 수신자 연결 조회 + 재전송 버퍼 저장 비용
+ * 전체 연결 수가 늘어도 사용자별 색인(userIndex)은 일정하고, 이전의 접두사 탐색(prefixScan)은 연결 수에 비례한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EmitterRepositoryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int connections;
+
+    EmitterRepository emitterRepository;
+    Map<String, SseEmitter> prefixEmitters;
+    Long receiverId;
+
+    @Setup
+    public void setUp() {
+        emitterRepository = new EmitterRepository(100, 600_000, 0);
+        prefixEmitters = new ConcurrentHashMap<>();
+
+        for (long userId = 1; userId <= connections; userId++) {
+            String emitterId = userId + "_" + System.currentTimeMillis();
+            SseEmitter emitter = new SseEmitter();
+            emitterRepository.save(new SseConnection(userId, emitterId, emitter, 16));
+            prefixEmitters.put(emitterId, emitter);
+        }
+        receiverId = (long) connections / 2;
+    }
+
+    @Benchmark
+    public int userIndex() {
+        List<SseConnection> receivers = emitterRepository.findAllByUserId(receiverId);
+        emitterRepository.saveEventCache(receiverId, emitterRepository.nextEventId(), "notification");
+        return receivers.size();
+    }
+
+    /**
+     * 변경 전 방식: 전체 연결을 훑으며 ID 접두사로 수신자 연결을 찾는다.
+     */
+    @Benchmark
+    public int prefixScan() {
+        String prefix = receiverId + "_";
+        Map<String, SseEmitter> receivers = prefixEmitters.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return receivers.size();
+    }
+}
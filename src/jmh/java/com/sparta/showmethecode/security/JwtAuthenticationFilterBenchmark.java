@@ -0,0 +1,89 @@
+package com.sparta.showmethecode.security;
+
+import com.sparta.showmethecode.BenchmarkApplication;
+import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.domain.UserRole;
+import com.sparta.showmethecode.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 요청 1건당 필터 비용
+ * before: 변경 전 방식 (토큰 두 번 파싱, 사용자 두 번 조회)
+ * after: 현재 JwtAuthenticationFilter (한 번 파싱, 검증 캐시, 사용자 조회 없음)
+ * requestOnly: 요청 객체 생성만 (after 의 기준값)
+ *
+ * gc 프로파일러의 gc.alloc.rate.norm 이 요청 1건당 할당 바이트이며,
+ * after 에서 requestOnly 를 뺀 값이 필터가 요청마다 할당하는 양이다. (getAuthorities() 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    ConfigurableApplicationContext context;
+    JwtAuthenticationFilter jwtAuthenticationFilter;
+    UserDetailsServiceImpl userDetailsService;
+    String token;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        jwtAuthenticationFilter = context.getBean(JwtAuthenticationFilter.class);
+        userDetailsService = context.getBean(UserDetailsServiceImpl.class);
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("benchmark_user", "password", "벤치마크", UserRole.ROLE_USER, 0, 0, 0.0));
+        token = context.getBean(JwtUtils.class).createToken(user);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object after() throws ServletException, IOException {
+        try {
+            jwtAuthenticationFilter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Object[] requestOnly() {
+        return new Object[]{request(), new MockHttpServletResponse(), new MockFilterChain()};
+    }
+
+    @Benchmark
+    public Object before() {
+        // isValidToken: 파싱 + 사용자 조회
+        Claims validated = Jwts.parser().setSigningKey("secret").parseClaimsJws(token).getBody();
+        userDetailsService.loadUserByUsername(String.valueOf(validated.get("username")));
+
+        // getUserInfo: 다시 파싱 + 사용자 조회
+        Claims claims = Jwts.parser().setSigningKey("secret").parseClaimsJws(token).getBody();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(String.valueOf(claims.get("username")));
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/user/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,74 @@
+package com.sparta.showmethecode.security;
+
+import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.domain.UserRole;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 토큰 검증 비용 비교 (캐시 사용 vs 매번 서명 검증)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class VerifiedTokenCacheBenchmark {
+
+    JwtUtils cached;
+    JwtUtils uncached;
+    String token;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path snapshotPath = Files.createTempDirectory("revocation-benchmark").resolve("revoked-tokens.dat");
+        TokenRevocationStore revocationStore = new TokenRevocationStore(new NoopBus(), snapshotPath.toString(), 1000);
+
+        cached = new JwtUtils(new VerifiedTokenCache(10000), revocationStore);
+        uncached = new JwtUtils(new NoCache(), revocationStore);
+
+        User user = User.builder().id(1L).username("user").nickname("nickname").role(UserRole.ROLE_USER).build();
+        token = cached.createToken(user);
+    }
+
+    @Benchmark
+    public TokenDto cachedValidation() {
+        return cached.parseToken(token);
+    }
+
+    @Benchmark
+    public TokenDto uncachedValidation() {
+        return uncached.parseToken(token);
+    }
+
+    /**
+     * 항상 미스인 캐시
+     */
+    static class NoCache extends VerifiedTokenCache {
+        NoCache() {
+            super(0);
+        }
+
+        @Override
+        public TokenDto find(TokenDigest digest) {
+            return null;
+        }
+
+        @Override
+        public void put(TokenDigest digest, TokenDto tokenDto, long expiresAt) {
+        }
+    }
+
+    static class NoopBus implements TokenRevocationBus {
+        @Override
+        public void publish(TokenRevocationMessage message) {
+        }
+
+        @Override
+        public void subscribe(Consumer<TokenRevocationMessage> subscriber) {
+        }
+    }
+}
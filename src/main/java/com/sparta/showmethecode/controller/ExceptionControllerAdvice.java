@@ -2,6 +2,7 @@ package com.sparta.showmethecode.controller;
 
 import com.sparta.showmethecode.dto.response.ExceptionResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -25,4 +26,11 @@ public class ExceptionControllerAdvice {
         log.error("[ExceptionHandler-BadCredentialsException: {}", e);
         return new ExceptionResponse(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
+
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ExceptionResponse queryTimeoutExceptionHandler(QueryTimeoutException e) {
+        log.error("[ExceptionHandler-QueryTimeoutException: {}", e);
+        return new ExceptionResponse(e.getMessage(), HttpStatus.SERVICE_UNAVAILABLE);
+    }
 }
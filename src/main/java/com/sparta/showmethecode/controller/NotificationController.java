@@ -1,14 +1,18 @@
 package com.sparta.showmethecode.controller;
 
 import com.sparta.showmethecode.dto.response.NotificationsResponse;
+import com.sparta.showmethecode.security.UserDetailsImpl;
 import com.sparta.showmethecode.service.NotificationService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.annotation.Secured;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -36,12 +40,40 @@ public class NotificationController {
     }
 
     /**
-     *  로그인 한 유저의 모든 알림 조회
+     * 유저 sse 연결 (리액티브 전송, 사용자별 Sink 공유)
+     * MVC(Tomcat) 에서 제공되므로 연결마다 비동기 컨텍스트를 차지하는 점은 /subscribe/{id} 와 같다.
+     */
+    @CrossOrigin
+    @Secured({"ROLE_USER", "ROLE_REVIEWER"})
+    @GetMapping(value = "/subscribe/reactive/{id}", consumes = MediaType.ALL_VALUE, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> subscribeReactive(@PathVariable Long id,
+                                                          @RequestParam(value = "lastEventId", required = false, defaultValue = "") String lastEventId) {
+
+        log.info("리액티브 SSE 연결 id = {}", id);
+
+        return notificationService.subscribeReactive(id, lastEventId);
+    }
+
+    /**
+     *  로그인 한 유저의 알림 목록 조회 (최신순 커서 페이징, 빈 커서는 첫 페이지)
      */
     @Secured({"ROLE_USER", "ROLE_REVIEWER"})
     @GetMapping("/notifications")
-    public ResponseEntity<NotificationsResponse> notifications(@PathVariable Long id) {
-        return ResponseEntity.ok().body(notificationService.findAllById(id));
+    public ResponseEntity<NotificationsResponse> notifications(
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        return ResponseEntity.ok().body(notificationService.findNotifications(userDetails.getUser().getId(), cursor, Math.max(1, Math.min(size, 100))));
+    }
+
+    /**
+     *  로그인 한 유저의 읽지 않은 알림 수 조회
+     */
+    @Secured({"ROLE_USER", "ROLE_REVIEWER"})
+    @GetMapping("/notifications/unread-count")
+    public ResponseEntity<Long> unreadCount(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ResponseEntity.ok().body(notificationService.getUnreadCount(userDetails.getUser().getId()));
     }
 
     /**
@@ -53,4 +85,17 @@ public class NotificationController {
         notificationService.readNotification(id);
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
+
+    /**
+     *  알림 일괄 읽음 처리 (cursor 가 주어지면 해당 알림까지, 없으면 전체)
+     */
+    @Secured({"ROLE_USER", "ROLE_REVIEWER"})
+    @PatchMapping("/notifications")
+    public ResponseEntity<Void> readAllNotifications(
+            @RequestParam(defaultValue = "") String cursor,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        notificationService.readAllNotifications(userDetails.getUser().getId(), cursor);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
 }
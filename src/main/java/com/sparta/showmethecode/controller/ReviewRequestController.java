@@ -2,6 +2,7 @@ package com.sparta.showmethecode.controller;
 
 import com.sparta.showmethecode.domain.ReviewRequestStatus;
 import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.request.ReviewRequestDto;
 import com.sparta.showmethecode.dto.request.ReviewRequestUpdateDto;
 import com.sparta.showmethecode.dto.response.*;
@@ -26,12 +27,15 @@ public class ReviewRequestController {
 
     /**
      * 코드리뷰 요청목록 API
+     * cursor 파라미터가 주어지면 (createdAt, id) 기준 커서 페이징 (빈 값은 첫 페이지)
      */
     @GetMapping("/questions")
     public ResponseEntity<PageResponseDto> getReviewRequestList(
             @RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy, @RequestParam(defaultValue = "true") Boolean isAsc,
-            @RequestParam(required = false) String query, @RequestParam(required = false, defaultValue = "ALL") ReviewRequestStatus status
+            @RequestParam(required = false) String query, @RequestParam(required = false, defaultValue = "ALL") ReviewRequestStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String countMode
     ) {
         --page;
 
@@ -39,11 +43,25 @@ public class ReviewRequestController {
             return ResponseEntity.ok(reviewRequestService.searchByTitleOrComment(query, page, size, sortBy, isAsc, status));
         }
 
-        PageResponseDto result = reviewRequestService.getReviewRequestList(page, size, sortBy, isAsc, status);
+        if (!Objects.isNull(cursor)) {
+            return ResponseEntity.ok(reviewRequestService.getReviewRequestListByCursor(cursor, size, isAsc, status));
+        }
+
+        PageResponseDto result = reviewRequestService.getReviewRequestList(page, size, sortBy, isAsc, status, CountMode.of(countMode));
 
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 코드리뷰 검색어 자동완성 API
+     */
+    @GetMapping("/questions/suggest")
+    public ResponseEntity<List<SuggestionResponseDto>> suggest(
+            @RequestParam String keyword, @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(reviewRequestService.suggest(keyword, Math.min(size, 50)));
+    }
+
     /**
      * 코드리뷰 요청 API
      * SSE 이벤트 포함
@@ -114,10 +132,11 @@ public class ReviewRequestController {
     @GetMapping("/question/language")
     public ResponseEntity searchRequestByLanguageName(
             @RequestParam String language,
-            @RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "true") boolean isAsc
+            @RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "10") int size, @RequestParam(defaultValue = "true") boolean isAsc,
+            @RequestParam(defaultValue = "exact") String countMode
     ) {
         --page;
-        PageResponseDto<ReviewRequestResponseDto> result = reviewRequestService.searchRequestByLanguageName(language, page, size, isAsc);
+        PageResponseDto<ReviewRequestResponseDto> result = reviewRequestService.searchRequestByLanguageName(language, page, size, isAsc, CountMode.of(countMode));
 
         return ResponseEntity.ok(result);
     }
@@ -5,6 +5,7 @@ import com.sparta.showmethecode.dto.request.UpdateReviewerDto;
 import com.sparta.showmethecode.security.UserDetailsImpl;
 import com.sparta.showmethecode.domain.User;
 import com.sparta.showmethecode.dto.request.AddAnswerDto;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.request.EvaluateAnswerDto;
 import com.sparta.showmethecode.dto.request.UpdateAnswerDto;
 import com.sparta.showmethecode.dto.response.*;
@@ -129,13 +130,14 @@ public class ReviewerController {
             @RequestParam ReviewRequestStatus status,
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy, @RequestParam(defaultValue = "true") Boolean isAsc
+            @RequestParam(defaultValue = "createdAt") String sortBy, @RequestParam(defaultValue = "true") Boolean isAsc,
+            @RequestParam(defaultValue = "exact") String countMode
     ) {
         log.info("getMyReceivedList status = {}", status.toString());
         --page;
         User user = userDetails.getUser();
 
-        PageResponseDto response = reviewerService.getMyReceivedRequestList(user, page, size, sortBy, isAsc, status);
+        PageResponseDto response = reviewerService.getMyReceivedRequestList(user, page, size, sortBy, isAsc, status, CountMode.of(countMode));
 
         return ResponseEntity.ok(response);
     }
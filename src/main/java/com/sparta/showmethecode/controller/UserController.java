@@ -1,7 +1,9 @@
 package com.sparta.showmethecode.controller;
 
 import com.sparta.showmethecode.domain.ReviewRequestStatus;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.request.EvaluateAnswerDto;
+import com.sparta.showmethecode.security.JwtUtils;
 import com.sparta.showmethecode.security.UserDetailsImpl;
 import com.sparta.showmethecode.domain.User;
 import com.sparta.showmethecode.dto.request.SigninRequestDto;
@@ -85,7 +87,25 @@ public class UserController {
      */
     @Secured({"ROLE_USER", "ROLE_REVIEWER"})
     @PostMapping("/user/logout")
-    public BasicResponseDto logout() {
+    public BasicResponseDto logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        String token = JwtUtils.resolveBearerToken(authorization);
+        if (token == null) {
+            throw new IllegalArgumentException("Bearer 토큰이 필요합니다.");
+        }
+
+        userService.logout(token);
+        SecurityContextHolder.clearContext();
+
+        return new BasicResponseDto(null, "success", "로그아웃 완료", HttpStatus.OK);
+    }
+
+    /**
+     * 모든 기기에서 로그아웃 API
+     */
+    @Secured({"ROLE_USER", "ROLE_REVIEWER"})
+    @PostMapping("/user/logout/all")
+    public BasicResponseDto logoutAll(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        userService.logoutAll(userDetails.getUser().getId());
         SecurityContextHolder.clearContext();
 
         return new BasicResponseDto(null, "success", "로그아웃 완료", HttpStatus.OK);
@@ -100,6 +120,7 @@ public class UserController {
             @RequestParam ReviewRequestStatus status,
             @RequestParam(defaultValue = "1") int page, @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy, @RequestParam(defaultValue = "true") Boolean isAsc,
+            @RequestParam(defaultValue = "exact") String countMode,
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) {
         --page;
@@ -107,7 +128,7 @@ public class UserController {
         log.info("getMyRequestList status = {}", status);
 
         User user = userDetails.getUser();
-        PageResponseDto response = userService.getMyReviewRequestList(user, page, size, sortBy, isAsc, status);
+        PageResponseDto response = userService.getMyReviewRequestList(user, page, size, sortBy, isAsc, status, CountMode.of(countMode));
 
         return ResponseEntity.ok(response);
     }
@@ -9,11 +9,14 @@ import javax.persistence.*;
 
 @Getter
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_notification_receiver_created_at_id", columnList = "fk_notification_to_receiver, createdAt, id"))
 @Entity
 public class Notification extends Timestamped {
 
+    // 일괄 저장 시 매번 시퀀스를 조회하지 않도록 50개씩 할당 (pooled)
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_generator")
+    @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     @JoinColumn(name = "fk_notification_to_receiver")
@@ -31,17 +34,19 @@ public class Notification extends Timestamped {
 
     private boolean isRead;
 
+    private int mergedCount; // 합쳐진 알림 수 (NotificationCoalescer)
 
     private String uri;
 
     @Builder
-    public Notification(User receiver, ReviewRequest review, String content, String url, boolean isRead, String uri) {
+    public Notification(User receiver, ReviewRequest review, String content, String url, boolean isRead, String uri, int mergedCount) {
         this.receiver = receiver;
         this.review = review;
         this.content = content;
         this.url = url;
         this.isRead = isRead;
         this.uri = uri;
+        this.mergedCount = mergedCount;
     }
 
     public void read(){
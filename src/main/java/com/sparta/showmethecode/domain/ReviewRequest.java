@@ -19,9 +19,12 @@ import java.util.Objects;
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
+@Table(indexes = @Index(name = "idx_review_request_created_at_id", columnList = "createdAt, id"))
 @Entity
 public class ReviewRequest extends Timestamped {
 
+    public static final int CONTENT_PREVIEW_LENGTH = 200;
+
     @Id @GeneratedValue
     private Long id;
 
@@ -32,12 +35,21 @@ public class ReviewRequest extends Timestamped {
     @Column(nullable = false)
     private String content;
 
+    // 목록 조회용 내용 미리보기, 목록에서는 @Lob 컬럼을 읽지 않는다.
+    @Column(length = CONTENT_PREVIEW_LENGTH)
+    private String contentPreview;
+
     @Enumerated(EnumType.STRING)
     private ReviewRequestStatus status;
 
     @Column(nullable = false)
     private String languageName;
 
+    // 목록 조회 시 댓글수 서브쿼리를 피하기 위한 반정규화 컬럼 (댓글 추가/삭제 시 갱신)
+    // 엔티티 변경 시 읽어둔 값으로 덮어쓰지 않도록 UPDATE 쿼리로만 변경한다.
+    @Column(updatable = false)
+    private long commentCount;
+
     // 한 명의 사용자는 여러 개 코드리뷰 요청서를 작성할 수 있다.
     @JoinColumn(name = "request_user_id")
     @ManyToOne(fetch = FetchType.LAZY)
@@ -67,6 +79,7 @@ public class ReviewRequest extends Timestamped {
         this.requestUser = requestUser;
         this.title = title;
         this.content = content;
+        this.contentPreview = toPreview(content);
         this.status = status;
         this.languageName = languageName.toUpperCase();
     }
@@ -76,6 +89,7 @@ public class ReviewRequest extends Timestamped {
         this.answerUser = answerUser;
         this.title = title;
         this.content = content;
+        this.contentPreview = toPreview(content);
         this.status = status;
         this.languageName = languageName.toUpperCase();
     }
@@ -83,6 +97,7 @@ public class ReviewRequest extends Timestamped {
     public void update(ReviewRequestUpdateDto dto) {
         this.title = dto.getTitle();
         this.content = dto.getContent();
+        this.contentPreview = toPreview(dto.getContent());
     }
 
     public void setStatus(ReviewRequestStatus status) {
@@ -104,4 +119,11 @@ public class ReviewRequest extends Timestamped {
     public void updateReviewer(User answerUser) {
         this.answerUser = answerUser;
     }
+
+    private static String toPreview(String content) {
+        if (Objects.isNull(content) || content.length() <= CONTENT_PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, CONTENT_PREVIEW_LENGTH);
+    }
 }
@@ -32,6 +32,13 @@ public class User extends Timestamped{
     private int evalCount; // 몇 명의 평가를 받았는지
     private double evalTotal; // 평가점수 총점
 
+    // 엔티티 변경 시 읽어둔 값으로 덮어쓰지 않도록 UPDATE 쿼리로만 변경한다.
+    @Column(updatable = false)
+    private long unreadNotificationCount; // 읽지 않은 알림 수 (반정규화)
+
+    @Column(updatable = false)
+    private long tokenVersion; // 토큰 버전, 증가시키면 이전에 발급된 토큰은 모두 무효
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Language> languages;
 
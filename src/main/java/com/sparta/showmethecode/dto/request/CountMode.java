@@ -0,0 +1,21 @@
+package com.sparta.showmethecode.dto.request;
+
+import java.util.Locale;
+
+/**
+ * 목록 조회 시 전체 개수 조회 방식
+ */
+public enum CountMode {
+
+    EXACT,      // 캐시된 정확한 개수 (변경 시 무효화)
+    ESTIMATE,   // 무효화 여부와 관계없이 최근에 조회한 개수
+    NONE;       // 개수 조회 생략, 다음 페이지 존재여부만 반영 (무한스크롤)
+
+    public static CountMode of(String value) {
+        try {
+            return CountMode.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 countMode 입니다. (exact, estimate, none)");
+        }
+    }
+}
@@ -1,26 +1,32 @@
 package com.sparta.showmethecode.dto.response;
 
+import com.querydsl.core.annotations.QueryProjection;
 import com.sparta.showmethecode.domain.Notification;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Getter
 @NoArgsConstructor
 public class NotificationResponse {
     private Long id;
     private String content;
     private String url;
-//    private Integer[] creatdAt;
     private boolean read;
+    private LocalDateTime createdAt;
+    private int mergedCount; // 합쳐진 알림 수
 
     @Builder
-    public NotificationResponse(Long id, String content, String url, boolean read){
+    @QueryProjection
+    public NotificationResponse(Long id, String content, String url, boolean read, LocalDateTime createdAt, int mergedCount){
         this.id = id;
         this.content = content;
         this.url = url;
-//        this.creatdAt = LocalDateTime.convert(creatdAt);
         this.read = read;
+        this.createdAt = createdAt;
+        this.mergedCount = mergedCount;
     }
 
     public static NotificationResponse from(Notification notification){
@@ -28,8 +34,9 @@ public class NotificationResponse {
                 .id(notification.getId())
                 .content(notification.getContent())
                 .url(notification.getUrl())
-//                .creatdAt(notification.getCreatedAt())
                 .read(notification.isRead())
+                .createdAt(notification.getCreatedAt())
+                .mergedCount(notification.getMergedCount())
                 .build();
     }
 
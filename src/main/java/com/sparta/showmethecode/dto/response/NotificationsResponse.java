@@ -1,5 +1,6 @@
 package com.sparta.showmethecode.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,16 +21,24 @@ public class NotificationsResponse {
      */
     private long unreadCount;
 
+    /**
+     * 다음 페이지 커서 (마지막 페이지면 응답에서 제외)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     @Builder
-    public NotificationsResponse(List<NotificationResponse> notificationResponses, long unreadCount){
+    public NotificationsResponse(List<NotificationResponse> notificationResponses, long unreadCount, String nextCursor){
         this.notificationResponses = notificationResponses;
         this.unreadCount = unreadCount;
+        this.nextCursor = nextCursor;
     }
 
-    public static NotificationsResponse of(List<NotificationResponse> notificationResponses, long count){
+    public static NotificationsResponse of(List<NotificationResponse> notificationResponses, long count, String nextCursor){
         return NotificationsResponse.builder()
                 .notificationResponses(notificationResponses)
                 .unreadCount(count)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -1,5 +1,6 @@
 package com.sparta.showmethecode.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -16,4 +17,20 @@ public class PageResponseDto<T> {
     private long totalElements;
     private int page;
     private int size;
+
+    /**
+     * 커서 기반 조회 시 다음/이전 페이지 커서 (오프셋 조회 시 응답에서 제외)
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String prevCursor;
+
+    public PageResponseDto(List<T> data, int totalPage, long totalElements, int page, int size) {
+        this.data = data;
+        this.totalPage = totalPage;
+        this.totalElements = totalElements;
+        this.page = page;
+        this.size = size;
+    }
 }
@@ -15,7 +15,7 @@ public class ReviewRequestResponseDto {
     private String username;
     private String nickname;
     private String title;
-    private String content;
+    private String content; // 목록 조회용 내용 미리보기 (전체 내용은 상세조회)
 
     private String languageName;
     private String status;
@@ -0,0 +1,13 @@
+package com.sparta.showmethecode.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.ToString;
+
+@ToString
+@AllArgsConstructor
+@Data
+public class SuggestionResponseDto {
+    private String keyword;
+    private long frequency;
+}
@@ -0,0 +1,31 @@
+package com.sparta.showmethecode.notification;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 한 JVM 안에서 동작하는 브로커
+ * 같은 인스턴스를 공유하는 여러 InMemoryNotificationBus 가 서로의 메시지를 받는다.
+ */
+@Slf4j
+public class InMemoryNotificationBroker {
+
+    private final List<Consumer<NotificationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    public void publish(NotificationMessage message) {
+        for (Consumer<NotificationMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException e) {
+                log.error("알림 버스 구독자 처리 실패 eventId = {}", message.getEventId(), e);
+            }
+        }
+    }
+
+    public void subscribe(Consumer<NotificationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.showmethecode.notification;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 메모리 기반 알림 버스 (기본값)
+ * InMemoryNotificationBroker 빈이 없으면 자기 자신에게만 전달하는 단일 서버용으로 동작한다.
+ * 여러 서버로 운영할 때는 notification.bus.type 을 바꾸고 외부 브로커 구현을 등록한다.
+ */
+@ConditionalOnProperty(name = "notification.bus.type", havingValue = "memory", matchIfMissing = true)
+@Component
+public class InMemoryNotificationBus implements NotificationBus {
+
+    private final InMemoryNotificationBroker broker;
+
+    public InMemoryNotificationBus(ObjectProvider<InMemoryNotificationBroker> broker) {
+        this.broker = broker.getIfAvailable(InMemoryNotificationBroker::new);
+    }
+
+    @Override
+    public void publish(NotificationMessage message) {
+        broker.publish(message);
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationMessage> subscriber) {
+        broker.subscribe(subscriber);
+    }
+}
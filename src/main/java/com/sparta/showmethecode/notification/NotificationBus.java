@@ -0,0 +1,15 @@
+package com.sparta.showmethecode.notification;
+
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 알림 전달 통로
+ * 발행된 메시지는 발행한 서버를 포함한 모든 서버의 구독자에게 전달되고,
+ * 각 서버는 자신이 가진 SSE 연결로만 전송한다.
+ */
+public interface NotificationBus {
+
+    void publish(NotificationMessage message);
+
+    void subscribe(Consumer<NotificationMessage> subscriber);
+}
@@ -0,0 +1,107 @@
+package com.sparta.showmethecode.notification;
+
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 합치기
+ *
+ * 같은 수신자, 같은 리뷰요청, 같은 이동 경로의 알림이 window 안에 연달아 발생하면 하나의 알림으로 합쳐 저장한다.
+ * 첫 알림 발생 후 window 가 지나면 합쳐진 알림 수와 마지막 알림 내용으로 저장하므로
+ * 알림 전송은 최대 window 만큼 지연된다. window 가 0 이면 사용하지 않는다.
+ * 저장 방식(notification.persistence.mode)이 sync 면 window 가 끝날 때 바로 저장하고, buffered 면 쓰기 버퍼에 넘긴다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationWriteBuffer notificationWriteBuffer;
+    private final long windowMillis;
+    private final boolean isBuffered;
+
+    private final Map<Key, PendingNotification> pendings = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public NotificationCoalescer(
+            NotificationWriteBuffer notificationWriteBuffer,
+            @Value("${notification.coalesce.window-millis:0}") long windowMillis,
+            @Value("${notification.persistence.mode:sync}") String persistenceMode
+    ) {
+        this.notificationWriteBuffer = notificationWriteBuffer;
+        this.windowMillis = windowMillis;
+        this.isBuffered = "buffered".equalsIgnoreCase(persistenceMode);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean isEnabled() {
+        return windowMillis > 0;
+    }
+
+    public void add(PendingNotification pending) {
+        Key key = new Key(pending.getReceiverId(), pending.getReviewId(), pending.getUrl());
+
+        PendingNotification merged = pendings.merge(key, pending, PendingNotification::merge);
+        // 새로 등록된 경우에만 window 이후 저장을 예약
+        if (merged == pending) {
+            scheduler.schedule(() -> flush(key), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public int size() {
+        return pendings.size();
+    }
+
+    private void flush(Key key) {
+        PendingNotification pending = pendings.remove(key);
+        if (Objects.isNull(pending)) {
+            return;
+        }
+
+        try {
+            if (isBuffered) {
+                notificationWriteBuffer.add(pending);
+            } else {
+                notificationWriteBuffer.persistNow(pending);
+            }
+        } catch (RuntimeException e) {
+            log.error("합쳐진 알림 저장 실패 receiverId = {}, reviewId = {}", pending.getReceiverId(), pending.getReviewId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        List<Key> keys = new ArrayList<>(pendings.keySet());
+        keys.forEach(this::flush);
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final Long receiverId;
+        private final Long reviewId;
+        private final String url;
+
+        private Key(Long receiverId, Long reviewId, String url) {
+            this.receiverId = receiverId;
+            this.reviewId = reviewId;
+            this.url = url;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.dto.response.NotificationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 저장 트랜잭션 커밋 이후 SSE 로 전달할 알림
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationEvent {
+    private final Long receiverId;
+    private final NotificationResponse notification;
+}
@@ -0,0 +1,17 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.dto.response.NotificationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서버 간 알림 버스로 전달되는 메시지
+ * 이벤트 ID 는 발행한 서버에서 한 번만 발급해 모든 서버의 재전송 버퍼가 같은 ID 를 쓴다.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationMessage {
+    private final long eventId;
+    private final Long receiverId;
+    private final NotificationResponse notification;
+}
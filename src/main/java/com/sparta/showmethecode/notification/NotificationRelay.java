@@ -0,0 +1,45 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.repository.EmitterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * 커밋된 알림을 알림 버스로 발행하고, 버스에서 받은 알림을 이 서버의 SSE 연결로 전달
+ */
+@RequiredArgsConstructor
+@Component
+public class NotificationRelay {
+
+    private final NotificationBus notificationBus;
+    private final EmitterRepository emitterRepository;
+    private final SseDispatcher sseDispatcher;
+    private final ReactiveNotificationHub reactiveNotificationHub;
+
+    @PostConstruct
+    public void init() {
+        notificationBus.subscribe(this::deliver);
+    }
+
+    /**
+     * 알림 저장 트랜잭션 커밋 이후 발행
+     * 소켓 쓰기는 전송 스레드에서 하므로 느린 클라이언트가 트랜잭션과 요청 스레드를 붙잡지 않는다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(NotificationEvent event) {
+        long eventId = emitterRepository.nextEventId();
+        notificationBus.publish(new NotificationMessage(eventId, event.getReceiverId(), event.getNotification()));
+    }
+
+    /**
+     * 연결이 없어도 재연결 시 받을 수 있도록 재전송 버퍼에 저장한 뒤 이 서버의 연결(SseEmitter, 리액티브)로 전송
+     */
+    public void deliver(NotificationMessage message) {
+        emitterRepository.saveEventCache(message.getReceiverId(), message.getEventId(), message.getNotification());
+        sseDispatcher.dispatch(message.getReceiverId(), SseFrame.event(message.getEventId(), message.getNotification()));
+        reactiveNotificationHub.emit(message.getReceiverId(), message.getEventId(), message.getNotification());
+    }
+}
@@ -0,0 +1,180 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.domain.Notification;
+import com.sparta.showmethecode.dto.response.NotificationResponse;
+import com.sparta.showmethecode.repository.NotificationRepository;
+import com.sparta.showmethecode.repository.ReviewRequestRepository;
+import com.sparta.showmethecode.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 쓰기 버퍼 (write-behind)
+ *
+ * 커밋된 요청의 알림을 모았다가 batch-size 개가 쌓이거나 flush-interval 이 지나면 한 트랜잭션에서 일괄 저장한다.
+ * 저장 커밋 이후 SSE 로 전달되므로 버퍼에 있는 동안은 전송이 지연되고,
+ * 저장 전에 서버가 비정상 종료되면 버퍼의 알림은 유실된다.
+ * 대기열이 가득 차면 저장 스레드를 깨워 잠시 자리가 나기를 기다리고, 그래도 가득 차 있으면 호출 스레드에서 바로 저장한다.
+ * 종료(@PreDestroy) 이후에 커밋된 요청의 알림도 호출 스레드에서 바로 저장한다.
+ * 호출 스레드는 이미 커밋된 트랜잭션의 afterCommit 콜백일 수 있으므로 저장은 항상 새 트랜잭션에서 한다.
+ */
+@Slf4j
+@Component
+public class NotificationWriteBuffer {
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final ReviewRequestRepository reviewRequestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<PendingNotification> queue;
+    private final ScheduledExecutorService flusher;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+
+    public NotificationWriteBuffer(
+            NotificationRepository notificationRepository,
+            UserRepository userRepository,
+            ReviewRequestRepository reviewRequestRepository,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.persistence.batch-size:100}") int batchSize,
+            @Value("${notification.persistence.flush-interval-millis:200}") long flushIntervalMillis,
+            @Value("${notification.persistence.queue-capacity:10000}") int queueCapacity,
+            @Value("${notification.persistence.offer-timeout-millis:100}") long offerTimeoutMillis
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.reviewRequestRepository = reviewRequestRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 커밋이 끝난 호출 트랜잭션에 참여하면 저장이 커밋되지 않으므로 항상 새 트랜잭션
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void add(PendingNotification pending) {
+        // 종료 이후에는 버퍼를 비워줄 저장 스레드가 없으므로 호출 스레드에서 저장
+        if (flusher.isShutdown()) {
+            persistNow(pending);
+            return;
+        }
+
+        if (!queue.offer(pending) && !offerAfterFlush(pending)) {
+            log.warn("알림 쓰기 버퍼 포화, 호출 스레드에서 저장 receiverId = {}", pending.getReceiverId());
+            persistNow(pending);
+            return;
+        }
+
+        if (queue.size() >= batchSize || flusher.isShutdown()) {
+            try {
+                flusher.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // 넣는 사이 종료되어 마지막 저장이 이미 끝났을 수 있으므로 호출 스레드에서 저장
+                flushQuietly();
+            }
+        }
+    }
+
+    /**
+     * 버퍼를 거치지 않고 호출 스레드에서 바로 저장 (새 트랜잭션)
+     */
+    public void persistNow(PendingNotification pending) {
+        persist(Collections.singletonList(pending));
+    }
+
+    private boolean offerAfterFlush(PendingNotification pending) {
+        try {
+            flusher.execute(this::flushQuietly);
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+
+        try {
+            return queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("알림 일괄 저장 실패", e);
+        }
+    }
+
+    private void flush() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            persist(batch);
+            batch.clear();
+        }
+    }
+
+    private void persist(List<PendingNotification> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Notification> notifications = batch.stream()
+                    .map(pending -> Notification.builder()
+                            .receiver(userRepository.getOne(pending.getReceiverId()))
+                            .review(reviewRequestRepository.getOne(pending.getReviewId()))
+                            .content(pending.getContent())
+                            .url(pending.getUrl())
+                            .isRead(false)
+                            .mergedCount(pending.getMergedCount())
+                            .build())
+                    .collect(Collectors.toList());
+
+            notificationRepository.saveAll(notifications);
+
+            // 같은 수신자의 알림은 모아서 한 번에 읽지 않은 알림 수 증가
+            batch.stream()
+                    .collect(Collectors.groupingBy(PendingNotification::getReceiverId, Collectors.counting()))
+                    .forEach(userRepository::increaseUnreadNotificationCount);
+
+            // 커밋 이후 NotificationRelay 가 알림 버스로 발행
+            notifications.forEach(notification -> eventPublisher.publishEvent(
+                    new NotificationEvent(notification.getReceiver().getId(), NotificationResponse.from(notification))
+            ));
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+}
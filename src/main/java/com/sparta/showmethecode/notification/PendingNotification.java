@@ -0,0 +1,29 @@
+package com.sparta.showmethecode.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 쓰기 버퍼에 쌓이는 저장 대기 알림
+ * 다른 스레드에서 저장하므로 엔티티 대신 ID 만 가진다.
+ */
+@Getter
+@AllArgsConstructor
+public class PendingNotification {
+    private final Long receiverId;
+    private final Long reviewId;
+    private final String content;
+    private final String url;
+    private final int mergedCount; // 합쳐진 알림 수
+
+    public PendingNotification(Long receiverId, Long reviewId, String content, String url) {
+        this(receiverId, reviewId, content, url, 1);
+    }
+
+    /**
+     * 나중에 발생한 알림의 내용으로 합친다.
+     */
+    public PendingNotification merge(PendingNotification later) {
+        return new PendingNotification(receiverId, reviewId, later.content, later.url, mergedCount + later.mergedCount);
+    }
+}
@@ -0,0 +1,168 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.repository.EmitterRepository;
+import com.sparta.showmethecode.repository.NotificationReplayBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 Sink 를 두는 리액티브 SSE 전송 (Flux&lt;ServerSentEvent&gt;)
+ *
+ * 연결마다 스레드, 전송 대기열, SseEmitter 를 두지 않고 사용자별 Sink 하나를 같은 사용자의 연결들이 함께 구독한다.
+ * 이벤트는 알림 1건당 한 번만 만들어 모든 연결에 공유하고, 연결이 없는 사용자는 Sink 도 두지 않는다.
+ * 느린 연결은 connection-queue-capacity 만큼만 쌓아두고 넘치면 끊으며, 클라이언트는 Last-Event-ID 로 재전송받는다.
+ * 이벤트 ID 와 재전송 버퍼는 SseEmitter 전송과 같은 EmitterRepository 를 사용한다.
+ *
+ * 현재는 Spring MVC(Tomcat) 에서 제공되므로 연결마다 서블릿 비동기 컨텍스트와 커넥션 슬롯(max-connections)을 그대로 차지한다.
+ * 줄어드는 것은 애플리케이션이 연결마다 보관하는 객체뿐이며, 연결 수 한계를 늘리려면 WebFlux(Netty) 서버에서 제공해야 한다.
+ */
+@Slf4j
+@Component
+public class ReactiveNotificationHub implements MeterBinder {
+
+    private static final String EVENT_NAME = "sse";
+    private static final ServerSentEvent<Object> HEARTBEAT = ServerSentEvent.builder().comment("heartbeat").build();
+
+    private final EmitterRepository emitterRepository;
+    private final int connectionQueueCapacity;
+
+    private final Map<Long, UserSink> sinks = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+
+    public ReactiveNotificationHub(
+            EmitterRepository emitterRepository,
+            @Value("${notification.delivery.connection-queue-capacity:64}") int connectionQueueCapacity
+    ) {
+        this.emitterRepository = emitterRepository;
+        this.connectionQueueCapacity = connectionQueueCapacity;
+    }
+
+    /**
+     * 사용자 연결, lastEventId 이후 재전송 이벤트를 먼저 보내고 이후 알림을 이어서 보낸다.
+     * 실시간 구독을 먼저 시작한 뒤 재전송 목록을 읽으므로 그 사이에 도착한 알림도 유실되지 않는다.
+     */
+    public Flux<ServerSentEvent<Object>> connect(Long userId, Long lastEventId) {
+        return Flux.defer(() -> {
+            UserSink userSink = register(userId);
+
+            Flux<ServerSentEvent<Object>> created = Flux.just(ServerSentEvent.builder()
+                    .event(EVENT_NAME)
+                    .data((Object) ("EventStream Created. [userid =" + userId + "]"))
+                    .build());
+
+            // 재전송한 이벤트가 실시간으로도 도착하면 제외 (Last-Event-ID 가 없으면 만들지 않음)
+            Set<String> replayedIds = Objects.isNull(lastEventId) ? Collections.emptySet() : ConcurrentHashMap.newKeySet();
+            Flux<ServerSentEvent<Object>> replay = Flux.defer(() -> {
+                if (Objects.isNull(lastEventId)) {
+                    return Flux.empty();
+                }
+                List<NotificationReplayBuffer.ReplayEvent> events = emitterRepository.findAllEventCacheAfter(userId, lastEventId);
+                events.forEach(event -> replayedIds.add(String.valueOf(event.getId())));
+                return Flux.fromIterable(events).map(event -> toEvent(event.getId(), event.getData()));
+            });
+
+            Flux<ServerSentEvent<Object>> live = userSink.sink.asFlux()
+                    .filter(event -> replayedIds.isEmpty() || Objects.isNull(event.id()) || !replayedIds.contains(event.id()));
+
+            // live 를 먼저 구독해야 재전송 목록을 읽는 사이의 알림을 놓치지 않는다.
+            return Flux.merge(live, Flux.concat(created, replay))
+                    .onBackpressureBuffer(connectionQueueCapacity, dropped -> {
+                        overflowCount.incrementAndGet();
+                        log.warn("리액티브 SSE 연결 대기열 초과로 연결 종료 userId = {}", userId);
+                    })
+                    .doFinally(signal -> unregister(userId));
+        });
+    }
+
+    /**
+     * 이 서버에 연결된 사용자에게 전송, 연결이 없으면 아무것도 하지 않는다.
+     */
+    public void emit(Long userId, long eventId, Object data) {
+        UserSink userSink = sinks.get(userId);
+        if (Objects.isNull(userSink)) {
+            return;
+        }
+
+        if (userSink.tryEmit(toEvent(eventId, data))) {
+            deliveredCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 모든 연결에 주석 프레임을 보내 끊긴 연결을 찾아낸다. (쓰기에 실패한 연결은 구독이 취소되어 정리된다.)
+     */
+    @Scheduled(fixedDelayString = "${notification.heartbeat.interval-millis:30000}")
+    public void heartbeat() {
+        sinks.values().forEach(userSink -> userSink.tryEmit(HEARTBEAT));
+    }
+
+    public int countConnections() {
+        return connectionCount.get();
+    }
+
+    public int countUsers() {
+        return sinks.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notification.reactive.connections", connectionCount, AtomicInteger::get).register(registry);
+        Gauge.builder("notification.reactive.users", sinks, Map::size).register(registry);
+        FunctionCounter.builder("notification.reactive.delivered", deliveredCount, AtomicLong::get).register(registry);
+        FunctionCounter.builder("notification.reactive.overflow", overflowCount, AtomicLong::get).register(registry);
+    }
+
+    private UserSink register(Long userId) {
+        connectionCount.incrementAndGet();
+        // 구독자 수는 compute 안에서만 바꾸므로 마지막 연결 해제와 새 연결이 겹쳐도 Sink 가 유실되지 않는다.
+        return sinks.compute(userId, (k, userSink) -> {
+            UserSink target = userSink != null ? userSink : new UserSink();
+            target.subscribers++;
+            return target;
+        });
+    }
+
+    private void unregister(Long userId) {
+        connectionCount.decrementAndGet();
+        sinks.computeIfPresent(userId, (k, userSink) -> --userSink.subscribers == 0 ? null : userSink);
+    }
+
+    private ServerSentEvent<Object> toEvent(long eventId, Object data) {
+        return ServerSentEvent.builder()
+                .id(String.valueOf(eventId))
+                .event(EVENT_NAME)
+                .data(data)
+                .build();
+    }
+
+    private static class UserSink {
+        // 구독자가 없을 때 보낸 이벤트는 버리고(재전송 버퍼가 대신 보관), 구독자가 모두 끊겨도 종료되지 않는다.
+        private final Sinks.Many<ServerSentEvent<Object>> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+
+        // 여러 스레드에서 동시에 보내면 실패하므로 직렬화
+        synchronized boolean tryEmit(ServerSentEvent<Object> event) {
+            return sink.tryEmitNext(event).isSuccess();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.sparta.showmethecode.notification;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SseEmitter 와 연결별 전송 대기열
+ * 한 연결의 프레임은 한 번에 하나의 전송 스레드만 보내므로 순서가 유지된다.
+ * 대부분의 연결은 유휴 상태이므로 대기열은 고정 크기 배열 대신 필요한 만큼만 노드를 만드는 큐를 쓴다.
+ */
+@Getter
+public class SseConnection {
+
+    private final Long userId;
+    private final String id;
+    private final SseEmitter emitter;
+
+    private final Queue<SseFrame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final int queueCapacity;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // 연결 직후 재전송 프레임을 넣기 전까지 실시간 프레임을 보류 (재전송보다 먼저 보내지 않도록)
+    private volatile boolean holding;
+    private List<SseFrame> held;
+
+    public SseConnection(Long userId, String id, SseEmitter emitter, int queueCapacity) {
+        this.userId = userId;
+        this.id = id;
+        this.emitter = emitter;
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int queueSize() {
+        return queueSize.get();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean offer(SseFrame frame) {
+        if (holding) {
+            synchronized (this) {
+                if (holding) {
+                    if (closed.get() || held.size() >= queueCapacity) {
+                        return false;
+                    }
+                    held.add(frame);
+                    return true;
+                }
+            }
+        }
+        if (closed.get()) {
+            return false;
+        }
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            return false;
+        }
+        queue.offer(frame);
+        return true;
+    }
+
+    /**
+     * 이후 실시간 프레임을 release 까지 보류
+     */
+    synchronized void hold() {
+        held = new ArrayList<>();
+        holding = true;
+    }
+
+    /**
+     * 처음 보낼 프레임(생성 이벤트, 재전송 이벤트)을 넣은 뒤 보류한 실시간 프레임을 이어서 넣는다.
+     * 재전송에 포함된 이벤트는 보류 목록에서 제외하며, 처음 보낼 프레임은 재전송 버퍼 크기로 제한되므로 대기열 크기 제한을 받지 않는다.
+     */
+    synchronized void release(List<SseFrame> initialFrames) {
+        if (closed.get()) {
+            held = null;
+            holding = false;
+            return;
+        }
+
+        Set<Long> replayedIds = new HashSet<>();
+        initialFrames.forEach(frame -> {
+            if (frame.getId() != null) {
+                replayedIds.add(frame.getId());
+            }
+            append(frame);
+        });
+        held.stream()
+                .filter(frame -> frame.getId() == null || !replayedIds.contains(frame.getId()))
+                .forEach(this::append);
+
+        held = null;
+        holding = false;
+    }
+
+    private void append(SseFrame frame) {
+        queueSize.incrementAndGet();
+        queue.offer(frame);
+    }
+
+    SseFrame poll() {
+        SseFrame frame = queue.poll();
+        if (frame != null) {
+            queueSize.decrementAndGet();
+        }
+        return frame;
+    }
+
+    /**
+     * 전송 작업이 예약되지 않은 경우에만 true
+     */
+    boolean tryScheduling() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void finishScheduling() {
+        scheduled.set(false);
+    }
+
+    void send(SseFrame frame) throws IOException {
+        emitter.send(frame.toEvent());
+    }
+
+    /**
+     * 처음 닫는 경우에만 true
+     */
+    boolean close() {
+        if (!closed.compareAndSet(false, true)) {
+            return false;
+        }
+        while (poll() != null) {
+            // 대기중인 프레임 버림
+        }
+        return true;
+    }
+}
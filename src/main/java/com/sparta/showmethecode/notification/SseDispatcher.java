@@ -0,0 +1,209 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.repository.EmitterRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SSE 전송 전용 스레드풀
+ *
+ * 알림을 보내는 쪽은 연결별 대기열에 넣기만 하고, 실제 소켓 쓰기는 전송 스레드가 한다.
+ * 대기열이 가득 찬 느린 클라이언트나 쓰기에 실패한 연결은 끊고,
+ * 클라이언트는 재연결 시 Last-Event-ID 로 유실된 이벤트를 다시 받는다.
+ */
+@Slf4j
+@Component
+public class SseDispatcher implements MeterBinder {
+
+    // 한 연결이 전송 스레드를 독점하지 않도록 한 번에 보내는 최대 프레임 수
+    private static final int MAX_FRAMES_PER_DRAIN = 32;
+
+    private final EmitterRepository emitterRepository;
+    private final ThreadPoolExecutor executor;
+    private final int connectionQueueCapacity;
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong queueFullCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong sendErrorCount = new AtomicLong();
+    private final AtomicLong heartbeatErrorCount = new AtomicLong();
+
+    public SseDispatcher(
+            EmitterRepository emitterRepository,
+            @Value("${notification.delivery.pool-size:4}") int poolSize,
+            @Value("${notification.delivery.queue-capacity:10000}") int queueCapacity,
+            @Value("${notification.delivery.connection-queue-capacity:64}") int connectionQueueCapacity
+    ) {
+        this.emitterRepository = emitterRepository;
+        this.connectionQueueCapacity = connectionQueueCapacity;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "sse-delivery-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public SseConnection connect(Long userId, String emitterId, SseEmitter emitter) {
+        return connect(userId, emitterId, emitter, Collections::emptyList);
+    }
+
+    /**
+     * 연결을 등록한 뒤 initialFrames 를 먼저 보내고 실시간 프레임을 이어서 보낸다.
+     * 등록 이후에 재전송 목록을 읽어야 그 사이의 알림을 놓치지 않으므로, 그동안 도착한 실시간 프레임은 보류했다가
+     * 재전송 프레임 뒤에 넣고 재전송에 포함된 이벤트는 다시 보내지 않는다.
+     */
+    public SseConnection connect(Long userId, String emitterId, SseEmitter emitter, Supplier<List<SseFrame>> initialFrames) {
+        SseConnection connection = new SseConnection(userId, emitterId, emitter, connectionQueueCapacity);
+
+        emitter.onCompletion(() -> disconnect(connection));
+        emitter.onTimeout(() -> disconnect(connection));
+        emitter.onError(e -> disconnect(connection));
+
+        connection.hold();
+        emitterRepository.save(connection);
+        connection.release(initialFrames.get());
+        schedule(connection);
+
+        return connection;
+    }
+
+    /**
+     * 해당 사용자의 모든 연결에 프레임 전송 예약
+     */
+    public void dispatch(Long userId, SseFrame frame) {
+        emitterRepository.findAllByUserId(userId).forEach(connection -> enqueue(connection, frame));
+    }
+
+    public void enqueue(SseConnection connection, SseFrame frame) {
+        if (!connection.offer(frame)) {
+            drop(connection, queueFullCount, "전송 대기열 초과");
+            return;
+        }
+        schedule(connection);
+    }
+
+    private void schedule(SseConnection connection) {
+        if (!connection.tryScheduling()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.finishScheduling();
+            drop(connection, rejectedCount, "전송 스레드풀 포화");
+        }
+    }
+
+    /**
+     * 전송 스레드풀 대기열의 남은 자리
+     */
+    public int remainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    public long heartbeatErrorCount() {
+        return heartbeatErrorCount.get();
+    }
+
+    private void drain(SseConnection connection) {
+        SseFrame frame = null;
+        try {
+            for (int i = 0; i < MAX_FRAMES_PER_DRAIN; i++) {
+                frame = connection.poll();
+                if (frame == null) {
+                    break;
+                }
+                connection.send(frame);
+                if (!frame.isHeartbeat()) {
+                    deliveredCount.incrementAndGet();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            boolean isHeartbeat = frame != null && frame.isHeartbeat();
+            drop(connection, isHeartbeat ? heartbeatErrorCount : sendErrorCount, "전송 실패: " + e.getMessage());
+            return;
+        } finally {
+            // 어떤 예외가 나도 예약 상태가 남아 연결이 멈추지 않도록 해제
+            connection.finishScheduling();
+        }
+
+        // 예약 해제 직전에 추가됐거나 남은 프레임 처리
+        if (connection.queueSize() > 0) {
+            schedule(connection);
+        }
+    }
+
+    private void drop(SseConnection connection, AtomicLong counter, String reason) {
+        if (!connection.close()) {
+            return;
+        }
+
+        counter.incrementAndGet();
+        emitterRepository.deleteById(connection.getUserId(), connection.getId());
+        log.warn("SSE 연결 제거 userId = {}, emitterId = {}, reason = {}", connection.getUserId(), connection.getId(), reason);
+
+        try {
+            connection.getEmitter().complete();
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 실패 emitterId = {}", connection.getId(), e);
+        }
+    }
+
+    private void disconnect(SseConnection connection) {
+        connection.close();
+        emitterRepository.deleteById(connection.getUserId(), connection.getId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("notification.sse.connection_queue.depth", this, SseDispatcher::connectionQueueDepth)
+                .register(registry);
+        Gauge.builder("notification.sse.executor_queue.depth", executor, e -> e.getQueue().size())
+                .register(registry);
+        FunctionCounter.builder("notification.sse.delivered", deliveredCount, AtomicLong::get)
+                .register(registry);
+        FunctionCounter.builder("notification.sse.dropped", queueFullCount, AtomicLong::get)
+                .tag("reason", "queue_full").register(registry);
+        FunctionCounter.builder("notification.sse.dropped", rejectedCount, AtomicLong::get)
+                .tag("reason", "rejected").register(registry);
+        FunctionCounter.builder("notification.sse.dropped", sendErrorCount, AtomicLong::get)
+                .tag("reason", "send_error").register(registry);
+        FunctionCounter.builder("notification.sse.dropped", heartbeatErrorCount, AtomicLong::get)
+                .tag("reason", "heartbeat").register(registry);
+    }
+
+    private double connectionQueueDepth() {
+        LongAdder depth = new LongAdder();
+        emitterRepository.forEach(connection -> depth.add(connection.queueSize()));
+        return depth.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
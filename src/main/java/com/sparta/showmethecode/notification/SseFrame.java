@@ -0,0 +1,48 @@
+package com.sparta.showmethecode.notification;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Objects;
+
+/**
+ * 연결별 전송 대기열에 쌓이는 SSE 프레임
+ * id 가 없는 이벤트는 클라이언트의 Last-Event-ID 를 바꾸지 않는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SseFrame {
+
+    private static final String EVENT_NAME = "sse";
+
+    private final Long id;
+    private final Object data;
+    private final String comment;
+
+    public static SseFrame event(Long id, Object data) {
+        return new SseFrame(id, data, null);
+    }
+
+    public static SseFrame comment(String comment) {
+        return new SseFrame(null, null, comment);
+    }
+
+    public boolean isHeartbeat() {
+        return !Objects.isNull(comment);
+    }
+
+    public SseEmitter.SseEventBuilder toEvent() {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (!Objects.isNull(comment)) {
+            return event.comment(comment);
+        }
+
+        event.name(EVENT_NAME).data(data);
+        if (!Objects.isNull(id)) {
+            event.id(String.valueOf(id));
+        }
+        return event;
+    }
+}
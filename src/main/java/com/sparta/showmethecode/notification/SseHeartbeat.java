@@ -0,0 +1,115 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.repository.EmitterRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 하트비트
+ *
+ * 모든 연결에 주기적으로 주석 프레임을 보내 끊긴 연결(half-open)을 찾아낸다.
+ * 쓰기에 실패한 연결은 SseDispatcher 가 제거하고, 전송 스레드풀이 넘치지 않도록 나눠서 예약한다.
+ * 배치 사이에 대기하므로 다른 @Scheduled 작업을 막지 않도록 전용 스레드에서 실행한다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeat {
+
+    private static final SseFrame HEARTBEAT = SseFrame.comment("heartbeat");
+    private static final long MAX_BATCH_WAIT_MILLIS = 5000;
+
+    private final EmitterRepository emitterRepository;
+    private final SseDispatcher sseDispatcher;
+    private final Timer heartbeatTimer;
+    private final int batchSize;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public SseHeartbeat(
+            EmitterRepository emitterRepository,
+            SseDispatcher sseDispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${notification.heartbeat.batch-size:1000}") int batchSize,
+            @Value("${notification.heartbeat.interval-millis:30000}") long intervalMillis
+    ) {
+        this.emitterRepository = emitterRepository;
+        this.sseDispatcher = sseDispatcher;
+        this.batchSize = batchSize;
+        this.intervalMillis = intervalMillis;
+
+        this.heartbeatTimer = Timer.builder("notification.sse.heartbeat.duration").register(meterRegistry);
+        Gauge.builder("notification.sse.connections", emitterRepository, EmitterRepository::countConnections)
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.users", emitterRepository, EmitterRepository::countUsers)
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::heartbeatSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void heartbeatSafely() {
+        // 예외로 이후 실행이 취소되지 않도록 처리
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            log.error("SSE heartbeat 실패", e);
+        }
+    }
+
+    public void heartbeat() {
+        heartbeatTimer.record(() -> {
+            List<SseConnection> connections = new ArrayList<>(emitterRepository.countConnections());
+            emitterRepository.forEach(connections::add);
+
+            for (int from = 0; from < connections.size(); from += batchSize) {
+                waitForCapacity();
+                connections.subList(from, Math.min(from + batchSize, connections.size())).forEach(connection -> {
+                    // 전송 대기중인 프레임이 있으면 그 전송이 연결 확인을 대신한다.
+                    if (connection.queueSize() == 0) {
+                        sseDispatcher.enqueue(connection, HEARTBEAT);
+                    }
+                });
+            }
+        });
+
+        log.debug("SSE heartbeat connections = {}, evicted = {}",
+                emitterRepository.countConnections(), sseDispatcher.heartbeatErrorCount());
+    }
+
+    private void waitForCapacity() {
+        long deadline = System.currentTimeMillis() + MAX_BATCH_WAIT_MILLIS;
+        while (sseDispatcher.remainingCapacity() < batchSize && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
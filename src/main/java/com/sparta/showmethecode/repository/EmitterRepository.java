@@ -1,59 +1,150 @@
 package com.sparta.showmethecode.repository;
 
+import com.sparta.showmethecode.notification.SseConnection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
+/**
+ * 사용자 ID -> SSE 연결 목록 색인
+ * 알림 전송 시 전체 연결을 훑지 않고 해당 사용자의 연결만 조회한다.
+ * 사용자당 연결은 대부분 1~2개이므로 맵 대신 연결/해제 시 새로 만드는 배열로 유지해 유휴 연결의 메모리를 줄인다.
+ * 재연결 시 유실된 이벤트 재전송을 위해 사용자별 링버퍼를 함께 유지한다.
+ */
+@Slf4j
 @Repository
 public class EmitterRepository {
-    public final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
 
-    public SseEmitter save(String id, SseEmitter sseEmitter){
-        emitters.put(id, sseEmitter);
-        return sseEmitter;
+    private static final int NODE_ID_BITS = 10;
+    private static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    private final Map<Long, SseConnection[]> emitters = new ConcurrentHashMap<>();
+    private final Map<Long, NotificationReplayBuffer> eventCache = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final long nodeId;
+
+    private final int eventCacheCapacity;
+    private final long eventCacheTtlMillis;
+
+    public EmitterRepository(
+            @Value("${notification.replay.capacity:100}") int eventCacheCapacity,
+            @Value("${notification.replay.ttl-millis:600000}") long eventCacheTtlMillis,
+            @Value("${notification.node-id:-1}") int nodeId
+    ) {
+        this.eventCacheCapacity = eventCacheCapacity;
+        this.eventCacheTtlMillis = eventCacheTtlMillis;
+
+        if (nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("notification.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다. nodeId = " + nodeId);
+        }
+        // 지정하지 않으면 임의로 정하므로 서버가 많다면 서버마다 다른 값을 지정해야 한다.
+        this.nodeId = nodeId >= 0 ? nodeId : ThreadLocalRandom.current().nextInt(MAX_NODE_ID + 1);
+        log.info("SSE 이벤트 ID 서버 번호 = {}", this.nodeId);
     }
 
-    public void saveEventCache(String id, Object event) {
-        eventCache.put(id, event);
+    public SseConnection save(SseConnection connection){
+        emitters.compute(connection.getUserId(), (k, userEmitters) -> {
+            SseConnection[] current = userEmitters != null ? userEmitters : new SseConnection[0];
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].getId().equals(connection.getId())) {
+                    SseConnection[] replaced = current.clone();
+                    replaced[i] = connection;
+                    return replaced;
+                }
+            }
+
+            SseConnection[] added = Arrays.copyOf(current, current.length + 1);
+            added[current.length] = connection;
+            connectionCount.incrementAndGet();
+            return added;
+        });
+        return connection;
     }
 
-    public Map<String, SseEmitter> findAllStarWithById(String id){
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(id))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * 이벤트 ID 발급
+     * 서버 간에도 대략적인 발생 순서가 유지되도록 현재 시각(마이크로초 단위 공간) 기준으로 증가시키고,
+     * 같은 시각에 다른 서버에서 발급한 ID 와 겹치지 않도록 하위 비트에 서버 번호를 넣는다.
+     */
+    public long nextEventId() {
+        long sequence = eventSequence.updateAndGet(prev -> Math.max(prev + 1, System.currentTimeMillis() * 1000));
+        return (sequence << NODE_ID_BITS) | nodeId;
     }
 
-    public Map<String, Object> findAllEventCacheStartWithId(String id) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(id))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void saveEventCache(Long userId, long eventId, Object event) {
+        // 만료 버퍼 정리와 겹쳐도 유실되지 않도록 compute 안에서 추가
+        eventCache.compute(userId, (k, buffer) -> {
+            NotificationReplayBuffer target = buffer != null ? buffer : new NotificationReplayBuffer(eventCacheCapacity, eventCacheTtlMillis);
+            target.append(eventId, event, System.currentTimeMillis());
+            return target;
+        });
     }
 
-//    public void deleteAllStartWithId(String id){
-//        emitters.forEach(
-//                (key, emitters) -> {
-//                    if (key.startsWith(id)){
-//                        emitters.remove(key);
-//                    }
-//                }
-//        );
-//    }
+    public List<SseConnection> findAllByUserId(Long userId){
+        SseConnection[] userEmitters = emitters.get(userId);
+        return userEmitters == null ? Collections.emptyList() : Arrays.asList(userEmitters);
+    }
 
-    public void deleteById(String id){
-        emitters.remove(id);
+    public void forEach(Consumer<SseConnection> action) {
+        emitters.values().forEach(userEmitters -> {
+            for (SseConnection connection : userEmitters) {
+                action.accept(connection);
+            }
+        });
     }
 
-    public void deleteAllEventCachStartWithId(String id){
-        eventCache.forEach(
-                (key, data) -> {
-                    if (key.startsWith(id)){
-                        eventCache.remove(key);
-                    }
-                }
+    public List<NotificationReplayBuffer.ReplayEvent> findAllEventCacheAfter(Long userId, long lastEventId) {
+        NotificationReplayBuffer buffer = eventCache.get(userId);
+        if (buffer == null) {
+            return Collections.emptyList();
+        }
+        return buffer.findAllAfter(lastEventId, System.currentTimeMillis());
+    }
+
+    public int countUsers() {
+        return emitters.size();
+    }
+
+    public int countConnections() {
+        return connectionCount.get();
+    }
+
+    public void deleteById(Long userId, String emitterId){
+        // 마지막 연결이 제거되면 사용자 항목도 제거
+        emitters.computeIfPresent(userId, (k, userEmitters) -> {
+            SseConnection[] remained = Arrays.stream(userEmitters)
+                    .filter(connection -> !connection.getId().equals(emitterId))
+                    .toArray(SseConnection[]::new);
+            if (remained.length < userEmitters.length) {
+                connectionCount.decrementAndGet();
+            }
+            return remained.length == 0 ? null : remained;
+        });
+    }
+
+    public void deleteAllEventCacheByUserId(Long userId){
+        eventCache.remove(userId);
+    }
+
+    /**
+     * 만료된 이벤트만 남은 사용자 버퍼 제거
+     */
+    public void deleteExpiredEventCache() {
+        long now = System.currentTimeMillis();
+        eventCache.keySet().forEach(userId ->
+                eventCache.computeIfPresent(userId, (k, buffer) -> buffer.expireAndCheckEmpty(now) ? null : buffer)
         );
     }
 }
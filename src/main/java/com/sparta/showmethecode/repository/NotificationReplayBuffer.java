@@ -0,0 +1,142 @@
+package com.sparta.showmethecode.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 사용자별 SSE 재전송용 링버퍼
+ *
+ * 고정 크기를 넘으면 가장 오래된 이벤트를 덮어쓰고, TTL 이 지난 이벤트는 조회/추가 시 제거한다.
+ * 버퍼 안의 이벤트는 항상 ID 오름차순이고, Last-Event-ID 이후 이벤트는 이진탐색으로 찾는다.
+ */
+public class NotificationReplayBuffer {
+
+    private final long[] ids;
+    private final long[] createdAts;
+    private final Object[] events;
+    private final long ttlMillis;
+
+    private int head; // 가장 오래된 이벤트 위치
+    private int size;
+
+    public NotificationReplayBuffer(int capacity, long ttlMillis) {
+        this.ids = new long[capacity];
+        this.createdAts = new long[capacity];
+        this.events = new Object[capacity];
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * ID 순서를 유지하며 추가, 다른 서버에서 발급된 ID 가 늦게 도착하면 뒤에서부터 자리를 찾아 넣는다.
+     * 이미 있는 ID 는 무시한다.
+     */
+    public synchronized void append(long id, Object event, long now) {
+        expire(now);
+
+        // 가득 찬 상태에서 중복 ID 때문에 가장 오래된 이벤트가 밀려나지 않도록 먼저 확인
+        if (contains(id)) {
+            return;
+        }
+
+        if (size == ids.length) {
+            if (id < ids[head]) {
+                return;
+            }
+            events[head] = null;
+            head = (head + 1) % ids.length;
+            size--;
+        }
+
+        int position = size;
+        while (position > 0) {
+            int prev = (head + position - 1) % ids.length;
+            if (ids[prev] < id) {
+                break;
+            }
+            int current = (head + position) % ids.length;
+            ids[current] = ids[prev];
+            createdAts[current] = createdAts[prev];
+            events[current] = events[prev];
+            position--;
+        }
+
+        int index = (head + position) % ids.length;
+        ids[index] = id;
+        createdAts[index] = now;
+        events[index] = event;
+        size++;
+    }
+
+    /**
+     * lastEventId 보다 큰 ID 의 이벤트를 발생 순서대로 반환
+     */
+    public synchronized List<ReplayEvent> findAllAfter(long lastEventId, long now) {
+        expire(now);
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+
+        // lastEventId 보다 큰 첫 번째 위치 (논리 인덱스)
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[(head + mid) % ids.length] <= lastEventId) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<ReplayEvent> result = new ArrayList<>(size - low);
+        for (int i = low; i < size; i++) {
+            int index = (head + i) % ids.length;
+            result.add(new ReplayEvent(ids[index], events[index]));
+        }
+        return result;
+    }
+
+    /**
+     * 만료 이벤트 제거 후 비어있는지 여부
+     */
+    public synchronized boolean expireAndCheckEmpty(long now) {
+        expire(now);
+        return size == 0;
+    }
+
+    private boolean contains(long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = ids[(head + mid) % ids.length];
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void expire(long now) {
+        while (size > 0 && now - createdAts[head] >= ttlMillis) {
+            events[head] = null;
+            head = (head + 1) % ids.length;
+            size--;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ReplayEvent {
+        private final long id;
+        private final Object data;
+    }
+}
@@ -1,12 +1,16 @@
 package com.sparta.showmethecode.repository;
 
 import com.sparta.showmethecode.domain.Notification;
+import com.sparta.showmethecode.repository.querydsl.NotificationDao;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationDao {
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-
-
-    List<Notification> findAllByReceiverId(Long id);
+    // 읽지 않은 알림만 읽음 처리, 동시에 읽음 처리되어도 한 번만 반영되도록 변경된 행 수 반환
+    @Modifying
+    @Query("update Notification n set n.isRead = true where n.id = :id and n.isRead = false")
+    int markAsRead(@Param("id") Long id);
 }
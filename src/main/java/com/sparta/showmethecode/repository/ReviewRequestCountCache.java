@@ -0,0 +1,80 @@
+package com.sparta.showmethecode.repository;
+
+import com.sparta.showmethecode.domain.ReviewRequestStatus;
+import com.sparta.showmethecode.dto.request.CountMode;
+import com.sparta.showmethecode.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 코드리뷰요청 목록 전체 개수 캐시
+ * (목록종류, 상태, 사용자, 언어) 별로 count 쿼리 결과를 저장하고, 요청서 변경 커밋 시 전체 무효화한다.
+ * 다른 서버에서 발생한 변경은 TTL 이후에 반영된다.
+ */
+@Component
+public class ReviewRequestCountCache {
+
+    private static final long EXACT_TTL_MILLIS = 1000 * 60;
+    private static final long ESTIMATE_TTL_MILLIS = 1000 * 60 * 10;
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, CountEntry> counts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public static String key(String listType, ReviewRequestStatus status, Long userId, String languageName) {
+        return listType + ":" + status + ":" + userId + ":" + languageName;
+    }
+
+    public long getCount(String key, CountMode countMode, LongSupplier countQuery) {
+        Long cachedCount = findCount(key, countMode);
+        if (cachedCount != null) {
+            return cachedCount;
+        }
+
+        // 조회 중 무효화된 경우 다음 조회에서 다시 계산되도록 조회 전 세대를 기록
+        long now = System.currentTimeMillis();
+        long currentGeneration = generation.get();
+        long count = countQuery.getAsLong();
+
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.clear();
+        }
+        counts.put(key, new CountEntry(count, now, currentGeneration));
+
+        return count;
+    }
+
+    /**
+     * countMode 기준으로 유효한 캐시 값이 있으면 반환, 없으면 null
+     */
+    public Long findCount(String key, CountMode countMode) {
+        CountEntry entry = counts.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        long elapsed = System.currentTimeMillis() - entry.cachedAt;
+        boolean isFresh = entry.generation == generation.get() && elapsed < EXACT_TTL_MILLIS;
+        boolean isEstimable = countMode == CountMode.ESTIMATE && elapsed < ESTIMATE_TTL_MILLIS;
+        return isFresh || isEstimable ? entry.count : null;
+    }
+
+    /**
+     * 요청서 등록/삭제/상태변경/리뷰어변경 시 호출
+     */
+    public void invalidateAfterCommit() {
+        TransactionUtils.runAfterCommit(generation::incrementAndGet);
+    }
+
+    @AllArgsConstructor
+    private static class CountEntry {
+        private final long count;
+        private final long cachedAt;
+        private final long generation;
+    }
+}
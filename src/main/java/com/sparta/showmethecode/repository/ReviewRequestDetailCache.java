@@ -0,0 +1,169 @@
+package com.sparta.showmethecode.repository;
+
+import com.sparta.showmethecode.dto.response.CommentResponseDto;
+import com.sparta.showmethecode.dto.response.ReviewAnswerResponseDto;
+import com.sparta.showmethecode.dto.response.ReviewRequestDetailResponseDto;
+import com.sparta.showmethecode.util.TransactionUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 코드리뷰요청 상세조회 결과 캐시 (LRU, 추정 크기 기준 제한)
+ *
+ * 요청서/댓글/답변 변경 시 커밋 이후 해당 요청서만 제거한다.
+ * 조회 중 제거된 경우 조회 결과를 저장하지 않아 변경 이전 값이 남지 않도록 한다.
+ */
+@Component
+public class ReviewRequestDetailCache implements MeterBinder {
+
+    private static final int ENTRY_OVERHEAD = 256;
+    private static final int COMMENT_OVERHEAD = 128;
+
+    private final long maxWeight;
+
+    // accessOrder = true, 가장 오래 조회되지 않은 항목부터 제거
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalWeight;
+
+    // 요청서 ID -> 조회중 토큰, 조회 도중 무효화되면 제거된다.
+    private final Map<Long, Object> loading = new ConcurrentHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ReviewRequestDetailCache(@Value("${detail-cache.max-weight:33554432}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public ReviewRequestDetailResponseDto get(Long id, Function<Long, ReviewRequestDetailResponseDto> loader) {
+        synchronized (this) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                hitCount.incrementAndGet();
+                return entry.value;
+            }
+        }
+        missCount.incrementAndGet();
+
+        Object token = new Object();
+        loading.put(id, token);
+        ReviewRequestDetailResponseDto value = loader.apply(id);
+
+        if (loading.remove(id, token) && !Objects.isNull(value)) {
+            put(id, value);
+        }
+        return value;
+    }
+
+    /**
+     * 요청서/댓글/답변 변경 시 호출, 트랜잭션 안에서는 커밋 이후에 제거
+     */
+    public void evictAfterCommit(Long id) {
+        TransactionUtils.runAfterCommit(() -> evict(id));
+    }
+
+    public void evict(Long id) {
+        loading.remove(id);
+        synchronized (this) {
+            Entry removed = entries.remove(id);
+            if (removed != null) {
+                totalWeight -= removed.weight;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("review_request.detail_cache.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("review_request.detail_cache.requests", missCount, AtomicLong::get)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("review_request.detail_cache.evictions", evictionCount, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("review_request.detail_cache.hit_ratio", this, ReviewRequestDetailCache::hitRatio)
+                .register(registry);
+        Gauge.builder("review_request.detail_cache.size", this, ReviewRequestDetailCache::size)
+                .register(registry);
+        Gauge.builder("review_request.detail_cache.weight", this, ReviewRequestDetailCache::weight)
+                .baseUnit("bytes").register(registry);
+    }
+
+    public double hitRatio() {
+        long hit = hitCount.get();
+        long total = hit + missCount.get();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    private synchronized void put(Long id, ReviewRequestDetailResponseDto value) {
+        long weight = weigh(value);
+        if (weight > maxWeight) {
+            return;
+        }
+
+        Entry previous = entries.put(id, new Entry(value, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            totalWeight -= iterator.next().weight;
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 문자열 길이 기준 추정 크기 (UTF-16, 2 bytes)
+     */
+    private long weigh(ReviewRequestDetailResponseDto value) {
+        long chars = length(value.getTitle()) + length(value.getContent())
+                + length(value.getUsername()) + length(value.getNickname());
+        long weight = ENTRY_OVERHEAD;
+
+        for (CommentResponseDto comment : value.getComments()) {
+            chars += length(comment.getContent()) + length(comment.getUsername()) + length(comment.getNickname());
+            weight += COMMENT_OVERHEAD;
+        }
+
+        ReviewAnswerResponseDto answer = value.getReviewAnswer();
+        if (!Objects.isNull(answer)) {
+            chars += length(answer.getAnswerContent()) + length(answer.getUsername()) + length(answer.getNickname());
+            weight += COMMENT_OVERHEAD;
+        }
+        return weight + chars * 2;
+    }
+
+    private static int length(String s) {
+        return Objects.isNull(s) ? 0 : s.length();
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final ReviewRequestDetailResponseDto value;
+        private final long weight;
+    }
+}
@@ -0,0 +1,68 @@
+package com.sparta.showmethecode.repository;
+
+import com.sparta.showmethecode.dto.response.ReviewRequestLanguageCount;
+import com.sparta.showmethecode.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 언어별 코드리뷰요청 개수
+ * 시작 시 한 번 집계한 뒤 요청서 등록/삭제 커밋 시 증감하고, 주기적으로 DB 와 맞춘다.
+ * 다른 서버에서 발생한 변경이나 보정 중 누락된 증감은 다음 보정 때 반영된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReviewRequestLanguageHistogram {
+
+    private final ReviewRequestRepository reviewRequestRepository;
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        reconcile();
+        log.info("ReviewRequestLanguageHistogram 초기화 완료 languages = {}", counts.size());
+    }
+
+    public void incrementAfterCommit(String languageName) {
+        TransactionUtils.runAfterCommit(() -> counts.computeIfAbsent(languageName, k -> new LongAdder()).increment());
+    }
+
+    public void decrementAfterCommit(String languageName) {
+        TransactionUtils.runAfterCommit(() -> counts.computeIfAbsent(languageName, k -> new LongAdder()).decrement());
+    }
+
+    public List<ReviewRequestLanguageCount> getCounts() {
+        List<ReviewRequestLanguageCount> result = new ArrayList<>(counts.size());
+        counts.forEach((languageName, count) -> {
+            long sum = count.sum();
+            if (sum > 0) {
+                result.add(new ReviewRequestLanguageCount(languageName, sum));
+            }
+        });
+        result.sort(Comparator.comparing(ReviewRequestLanguageCount::getLanguageName));
+        return result;
+    }
+
+    @Scheduled(fixedDelay = 1000 * 60 * 10, initialDelay = 1000 * 60 * 10)
+    public void reconcile() {
+        Map<String, Long> actualCounts = reviewRequestRepository.getReviewRequestLanguageCountGroupByLanguage().stream()
+                .collect(Collectors.toMap(ReviewRequestLanguageCount::getLanguageName, ReviewRequestLanguageCount::getCount));
+
+        counts.keySet().retainAll(actualCounts.keySet());
+        actualCounts.forEach((languageName, count) -> {
+            LongAdder adder = new LongAdder();
+            adder.add(count);
+            counts.put(languageName, adder);
+        });
+    }
+}
@@ -6,7 +6,9 @@ import com.sparta.showmethecode.repository.querydsl.ReviewRequestDao;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ReviewRequestRepository extends JpaRepository<ReviewRequest, Long>, ReviewRequestDao {
@@ -19,4 +21,14 @@ public interface ReviewRequestRepository extends JpaRepository<ReviewRequest, Lo
     List<ReviewRequest> findByTitle(String title);
 
     List<ReviewRequest> findByAnswerUser(Long id);
+
+    // 검색 인덱스 구성용
+    @Query("select r.id from ReviewRequest r")
+    List<Long> findAllIds();
+
+    List<ReviewRequest> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
+    // 자동완성 구성용 (제목, 언어이름)
+    @Query("select r.title, r.languageName from ReviewRequest r")
+    List<Object[]> findAllTitleAndLanguageName();
 }
@@ -3,6 +3,7 @@ package com.sparta.showmethecode.repository;
 import com.sparta.showmethecode.domain.User;
 import com.sparta.showmethecode.repository.querydsl.UserDao;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +11,8 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long>, UserDao {
 
     Optional<User> findByUsername(String username);
+
+    // 토큰 버전이 변경된 사용자만 조회 (id, tokenVersion)
+    @Query("select u.id, u.tokenVersion from User u where u.tokenVersion > 0")
+    List<Object[]> findAllTokenVersions();
 }
@@ -0,0 +1,15 @@
+package com.sparta.showmethecode.repository.querydsl;
+
+import com.sparta.showmethecode.dto.response.NotificationResponse;
+import com.sparta.showmethecode.repository.querydsl.util.KeysetCursor;
+
+import java.util.List;
+
+public interface NotificationDao {
+
+    // 받은 알림 목록 조회 (최신순 커서 페이징, 다음 페이지 확인을 위해 size + 1 건 조회)
+    List<NotificationResponse> findNotificationsByCursor(Long receiverId, KeysetCursor cursor, int size);
+
+    // 커서 위치 이전(커서 포함)에 받은 알림 일괄 읽음 처리, 커서가 없으면 전체 읽음 처리, 읽음 처리된 알림 수 반환
+    long markAllAsRead(Long receiverId, KeysetCursor cursor);
+}
@@ -0,0 +1,67 @@
+package com.sparta.showmethecode.repository.querydsl;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.showmethecode.dto.response.NotificationResponse;
+import com.sparta.showmethecode.dto.response.QNotificationResponse;
+import com.sparta.showmethecode.repository.querydsl.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.sparta.showmethecode.domain.QNotification.notification;
+
+@RequiredArgsConstructor
+public class NotificationDaoImpl implements NotificationDao {
+
+    private final JPAQueryFactory query;
+
+    /**
+     * 리뷰요청(review) 은 조회하지 않고 응답에 필요한 컬럼만 조회
+     */
+    @Override
+    public List<NotificationResponse> findNotificationsByCursor(Long receiverId, KeysetCursor cursor, int size) {
+        return query.select(new QNotificationResponse(
+                        notification.id,
+                        notification.content,
+                        notification.url,
+                        notification.isRead,
+                        notification.createdAt,
+                        notification.mergedCount
+                ))
+                .from(notification)
+                .where(notification.receiver.id.eq(receiverId))
+                .where(afterCursor(cursor))
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    @Override
+    public long markAllAsRead(Long receiverId, KeysetCursor cursor) {
+        return query.update(notification)
+                .set(notification.isRead, true)
+                .where(notification.receiver.id.eq(receiverId).and(notification.isRead.isFalse()))
+                .where(upToCursor(cursor))
+                .execute();
+    }
+
+    private BooleanExpression afterCursor(KeysetCursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        return notification.createdAt.lt(cursor.getCreatedAt())
+                .or(notification.createdAt.eq(cursor.getCreatedAt()).and(notification.id.lt(cursor.getId())));
+    }
+
+    private BooleanExpression upToCursor(KeysetCursor cursor) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        return notification.createdAt.lt(cursor.getCreatedAt())
+                .or(notification.createdAt.eq(cursor.getCreatedAt()).and(notification.id.loe(cursor.getId())));
+    }
+}
@@ -3,7 +3,9 @@ package com.sparta.showmethecode.repository.querydsl;
 import com.sparta.showmethecode.domain.ReviewRequest;
 import com.sparta.showmethecode.domain.ReviewRequestStatus;
 import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.response.*;
+import com.sparta.showmethecode.repository.querydsl.util.KeysetCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,19 +14,21 @@ import java.util.List;
 public interface ReviewRequestDao {
 
     // 코드리뷰 목록 조회
-    Page<ReviewRequestResponseDto> findReviewRequestList(Pageable pageable, boolean isAsc, ReviewRequestStatus status);
+    Page<ReviewRequestResponseDto> findReviewRequestList(Pageable pageable, boolean isAsc, ReviewRequestStatus status, CountMode countMode);
+    // 코드리뷰 목록 조회 (커서 기반, 다음 페이지 존재여부 확인을 위해 size + 1 건 조회)
+    List<ReviewRequestResponseDto> findReviewRequestListByCursor(KeysetCursor cursor, int size, boolean isAsc, ReviewRequestStatus status);
 
     Page<ReviewRequestResponseDto> findSearchByTitleOrComment(String keyword, Pageable pageable);
-    // 코드리뷰요청 목록 제목+내용 검색쿼리
-    Page<ReviewRequestResponseDto> findSearchByTitleOrCommentAdvanced(String keyword, Pageable pageable, boolean isAsc, ReviewRequestStatus status);
+    // 코드리뷰요청 목록 제목+내용 검색쿼리 (검색 인덱스가 관련도 순으로 반환한 현재 페이지 ID 기준)
+    Page<ReviewRequestResponseDto> findSearchByTitleOrCommentAdvanced(List<Long> pageIds, long total, Pageable pageable);
     // 코드리뷰요청 상세정보 조회
     ReviewRequestDetailResponseDto getReviewRequestDetails(Long id);
     // 언어별 코드리뷰요청 카운팅
     List<ReviewRequestLanguageCount> getReviewRequestLanguageCountGroupByLanguage();
     // 자신이 요청한 리뷰 조회
-    Page<ReviewRequestResponseDto> findMyReviewRequestList(Long userId, Pageable pageable, ReviewRequestStatus status);
+    Page<ReviewRequestResponseDto> findMyReviewRequestList(Long userId, Pageable pageable, ReviewRequestStatus status, CountMode countMode);
     // 자신에게 요청된 리뷰 조회
-    Page<ReviewRequestResponseDto> findMyReceivedRequestList(Long userId, Pageable pageable, ReviewRequestStatus status);
+    Page<ReviewRequestResponseDto> findMyReceivedRequestList(Long userId, Pageable pageable, ReviewRequestStatus status, CountMode countMode);
 
     // 내가 요청한 리뷰가 맞는지 체크
     boolean isMyReviewRequest(Long reviewId, User user);
@@ -34,7 +38,7 @@ public interface ReviewRequestDao {
     boolean isAnswerToMe(Long answerId, User user);
 
     // 언어이름으로 코드리뷰요청 조회
-    Page<ReviewRequestResponseDto> searchRequestByLanguageName(String languageName, Pageable pageable, boolean isAsc);
+    Page<ReviewRequestResponseDto> searchRequestByLanguageName(String languageName, Pageable pageable, boolean isAsc, CountMode countMode);
 
     // 내가 답변한 리뷰목록 조회
     Page<ReviewAnswerResponseDto> findMyAnswer(Long userId, Pageable pageable);
@@ -42,6 +46,15 @@ public interface ReviewRequestDao {
     // 현재 리뷰요청에 달린 댓글 삭제
     void deleteComment(Long reviewId, Long commentId, Long userId);
 
+    // 댓글수 증가/감소 (동시 댓글작성 시 유실되지 않도록 UPDATE 쿼리로 처리)
+    void increaseCommentCount(Long reviewId);
+    void decreaseCommentCount(Long reviewId);
+    // 실제 댓글수와 다른 댓글수 보정, 보정된 요청서 수 반환
+    long reconcileCommentCount();
+
+    // 내용 미리보기가 없는 요청서 보정
+    long fillEmptyContentPreview();
+
     // 리뷰 상세내용 조회 (댓글X)
     RequestAndAnswerResponseDto findReviewRequestAndAnswer(Long id);
 }
@@ -2,7 +2,6 @@ package com.sparta.showmethecode.repository.querydsl;
 
 import com.querydsl.core.QueryResults;
 import com.querydsl.core.Tuple;
-import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
@@ -12,8 +11,13 @@ import com.sparta.showmethecode.domain.ReviewAnswer;
 import com.sparta.showmethecode.domain.ReviewRequest;
 import com.sparta.showmethecode.domain.ReviewRequestStatus;
 import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.response.*;
+import com.sparta.showmethecode.repository.ReviewRequestCountCache;
+import com.sparta.showmethecode.repository.querydsl.util.IdPaging;
+import com.sparta.showmethecode.repository.querydsl.util.KeysetCursor;
 import com.sparta.showmethecode.repository.querydsl.util.OrderByNull;
+import com.sparta.showmethecode.repository.querydsl.util.PagingExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -22,12 +26,10 @@ import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport
 import org.springframework.data.support.PageableExecutionUtils;
 
 import javax.persistence.EntityManager;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static com.querydsl.core.types.ExpressionUtils.count;
 import static com.querydsl.core.types.ExpressionUtils.path;
 import static com.sparta.showmethecode.domain.QReviewAnswer.reviewAnswer;
 import static com.sparta.showmethecode.domain.QReviewRequest.reviewRequest;
@@ -40,86 +42,96 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
 
     private final EntityManager em;
     private final JPAQueryFactory query;
+    private final ReviewRequestCountCache countCache;
+    private final PagingExecutor pagingExecutor;
 
-    public ReviewRequestDaoImpl(JPAQueryFactory jpaQueryFactory, EntityManager entityManager) {
+    public ReviewRequestDaoImpl(JPAQueryFactory jpaQueryFactory, EntityManager entityManager, ReviewRequestCountCache countCache, PagingExecutor pagingExecutor) {
         super(ReviewRequest.class);
         this.em = entityManager;
         this.query = jpaQueryFactory;
+        this.countCache = countCache;
+        this.pagingExecutor = pagingExecutor;
     }
 
     @Override
-    public Page<ReviewRequestResponseDto> findReviewRequestList(Pageable pageable, boolean isAsc, ReviewRequestStatus status) {
+    public Page<ReviewRequestResponseDto> findReviewRequestList(Pageable pageable, boolean isAsc, ReviewRequestStatus status, CountMode countMode) {
 
         JPAQuery<ReviewRequestResponseDto> jpaQuery = query.select(new QReviewRequestResponseDto(
                         reviewRequest.id,
                         reviewRequest.requestUser.username,
                         reviewRequest.requestUser.nickname,
                         reviewRequest.title,
-                        reviewRequest.content,
+                        reviewRequest.contentPreview,
                         reviewRequest.languageName,
                         reviewRequest.status,
                         reviewRequest.createdAt,
-                        ExpressionUtils.as(
-                                JPAExpressions.select(reviewRequestComment.id.count())
-                                        .from(reviewRequestComment)
-                                        .where(reviewRequestComment.reviewRequest.eq(reviewRequest)), "commentCount")
+                        reviewRequest.commentCount
                 ))
                 .where(statusEqual(status))
                 .from(reviewRequest);
 
-        JPQLQuery<ReviewRequestResponseDto> pagination = getQuerydsl().applyPagination(pageable, jpaQuery);
-
-        long totalCount = pagination.fetchCount();
-        return new PageImpl<>(pagination.fetch(), pageable, totalCount);
+        String countKey = ReviewRequestCountCache.key("ALL", status, null, null);
+        return fetchPage(jpaQuery, pageable, countMode, countKey);
     }
 
     @Override
-    public Page<ReviewRequestResponseDto> findSearchByTitleOrCommentAdvanced(String keyword, Pageable pageable, boolean isAsc, ReviewRequestStatus status) {
+    public List<ReviewRequestResponseDto> findReviewRequestListByCursor(KeysetCursor cursor, int size, boolean isAsc, ReviewRequestStatus status) {
 
-        List<ReviewRequestResponseDto> results = query
-                .select(new QReviewRequestResponseDto(
+        boolean isPrev = !Objects.isNull(cursor) && cursor.isPrev();
+        // 이전 페이지 조회 시 반대 방향으로 조회한 뒤 뒤집는다.
+        boolean isAscQuery = isAsc != isPrev;
+
+        List<ReviewRequestResponseDto> results = new ArrayList<>(query.select(new QReviewRequestResponseDto(
                         reviewRequest.id,
-                        user.username,
-                        user.nickname,
+                        reviewRequest.requestUser.username,
+                        reviewRequest.requestUser.nickname,
                         reviewRequest.title,
-                        reviewRequest.content,
+                        reviewRequest.contentPreview,
                         reviewRequest.languageName,
                         reviewRequest.status,
                         reviewRequest.createdAt,
-                        ExpressionUtils.as(JPAExpressions.select(count(reviewRequestComment.id))
-                                .from(reviewRequestComment)
-                                .where(reviewRequestComment.reviewRequest.eq(reviewRequest)), "commentCount")
-                        )
-                )
+                        reviewRequest.commentCount
+                ))
                 .from(reviewRequest)
-                .join(reviewRequest.requestUser, user)
-                .where(containingTitleOrComment(keyword))
                 .where(statusEqual(status))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(isAsc ? reviewRequest.createdAt.desc() : reviewRequest.createdAt.asc())
-                .fetch();
+                .where(afterCursor(cursor, isAscQuery))
+                .orderBy(
+                        isAscQuery ? reviewRequest.createdAt.asc() : reviewRequest.createdAt.desc(),
+                        isAscQuery ? reviewRequest.id.asc() : reviewRequest.id.desc()
+                )
+                .limit(size + 1)
+                .fetch());
 
-        JPAQuery<ReviewRequestResponseDto> jpaQuery = query
+        if (isPrev) {
+            Collections.reverse(results);
+        }
+
+        return results;
+    }
+
+    @Override
+    public Page<ReviewRequestResponseDto> findSearchByTitleOrCommentAdvanced(List<Long> pageIds, long total, Pageable pageable) {
+
+        // 상태 필터링과 페이징은 검색 색인에서 처리, 현재 페이지 ID 만 본문 조회하고 관련도 순서 유지
+        List<ReviewRequestResponseDto> content = IdPaging.hydrate(pageIds, ids -> query
                 .select(new QReviewRequestResponseDto(
                         reviewRequest.id,
                         user.username,
                         user.nickname,
                         reviewRequest.title,
-                        reviewRequest.content,
+                        reviewRequest.contentPreview,
                         reviewRequest.languageName,
                         reviewRequest.status,
                         reviewRequest.createdAt,
-                        ExpressionUtils.as(JPAExpressions.select(count(reviewRequestComment.id))
-                                .from(reviewRequestComment)
-                                .where(reviewRequestComment.reviewRequest.eq(reviewRequest)), "commentCount")
+                        reviewRequest.commentCount
                         )
                 )
                 .from(reviewRequest)
-                .join(reviewRequest.requestUser, user).fetchJoin()
-                .where(containingTitleOrComment(keyword));
+                .join(reviewRequest.requestUser, user)
+                .where(reviewRequest.id.in(ids))
+                .fetch(), ReviewRequestResponseDto::getReviewRequestId);
 
-        return PageableExecutionUtils.getPage(results, pageable, jpaQuery::fetchCount);
+        return new PageImpl<>(content, pageable, total);
     }
 
     @Override
@@ -131,16 +143,14 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
                         user.username,
                         user.nickname,
                         reviewRequest.title,
-                        reviewRequest.content,
+                        reviewRequest.contentPreview,
                         reviewRequest.languageName,
                         reviewRequest.status,
                         reviewRequest.createdAt,
-                        ExpressionUtils.as(JPAExpressions.select(count(reviewRequestComment.id))
-                        .from(reviewRequestComment)
-                        .where(reviewRequestComment.reviewRequest.eq(reviewRequest)), "commentCount")
+                        reviewRequest.commentCount
                  ))
                 .from(reviewRequest)
-                .join(reviewRequest.requestUser, user).fetchJoin()
+                .join(reviewRequest.requestUser, user)
                 .where(containingTitleOrComment(keyword))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -219,7 +229,7 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
     }
 
     @Override
-    public Page<ReviewRequestResponseDto> findMyReviewRequestList(Long id, Pageable pageable, ReviewRequestStatus status) {
+    public Page<ReviewRequestResponseDto> findMyReviewRequestList(Long id, Pageable pageable, ReviewRequestStatus status, CountMode countMode) {
 
         JPAQuery<ReviewRequestResponseDto> jpaQuery = query
                 .select(new QReviewRequestResponseDto(
@@ -227,57 +237,44 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
                                 user.username,
                                 user.nickname,
                                 reviewRequest.title,
-                                reviewRequest.content,
+                                reviewRequest.contentPreview,
                                 reviewRequest.languageName,
                                 reviewRequest.status,
                                 reviewRequest.createdAt,
-                                ExpressionUtils.as(JPAExpressions.select(count(reviewRequestComment.id))
-                                        .from(reviewRequestComment)
-                                        .where(reviewRequestComment.reviewRequest.eq(reviewRequest)), "commentCount")
+                                reviewRequest.commentCount
                         )
                 )
                 .from(reviewRequest)
                 .join(reviewRequest.requestUser, user)
                 .where(user.id.eq(id))
-                .where(statusEqual(status))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
+                .where(statusEqual(status));
 
-        JPQLQuery<ReviewRequestResponseDto> pagination = getQuerydsl().applyPagination(pageable, jpaQuery);
-
-        long totalCount = pagination.fetchCount();
-        return new PageImpl<>(pagination.fetch(), pageable, totalCount);
+        String countKey = ReviewRequestCountCache.key("REQUESTED", status, id, null);
+        return fetchPage(jpaQuery, pageable, countMode, countKey);
     }
 
     @Override
-    public Page<ReviewRequestResponseDto> findMyReceivedRequestList(Long id, Pageable pageable, ReviewRequestStatus status) {
+    public Page<ReviewRequestResponseDto> findMyReceivedRequestList(Long id, Pageable pageable, ReviewRequestStatus status, CountMode countMode) {
         JPAQuery<ReviewRequestResponseDto> jpaQuery = query
                 .select(new QReviewRequestResponseDto(
                                 reviewRequest.id,
                                 user.username,
                                 user.nickname,
                                 reviewRequest.title,
-                                reviewRequest.content,
+                                reviewRequest.contentPreview,
                                 reviewRequest.languageName,
                                 reviewRequest.status,
                                 reviewRequest.createdAt,
-                                ExpressionUtils.as(JPAExpressions.select(count(reviewRequestComment.id))
-                                        .from(reviewRequestComment)
-                                        .where(reviewRequestComment.reviewRequest.eq(reviewRequest)), "commentCount")
+                                reviewRequest.commentCount
                         )
                 )
                 .from(reviewRequest)
                 .join(reviewRequest.answerUser, user)
                 .where(user.id.eq(id))
-                .where(statusEqual(status))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize());
-
+                .where(statusEqual(status));
 
-        JPQLQuery<ReviewRequestResponseDto> pagination = getQuerydsl().applyPagination(pageable, jpaQuery);
-        long totalCount = pagination.fetchCount();
-
-        return new PageImpl<>(pagination.fetch(), pageable, totalCount);
+        String countKey = ReviewRequestCountCache.key("RECEIVED", status, id, null);
+        return fetchPage(jpaQuery, pageable, countMode, countKey);
     }
 
     @Override
@@ -311,7 +308,7 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
     }
 
     @Override
-    public Page<ReviewRequestResponseDto> searchRequestByLanguageName(String languageName, Pageable pageable, boolean isAsc) {
+    public Page<ReviewRequestResponseDto> searchRequestByLanguageName(String languageName, Pageable pageable, boolean isAsc, CountMode countMode) {
 
         JPAQuery<ReviewRequestResponseDto> jpaQuery = query
                 .select(new QReviewRequestResponseDto(
@@ -319,22 +316,19 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
                                 user.username,
                                 user.nickname,
                                 reviewRequest.title,
-                                reviewRequest.content,
+                                reviewRequest.contentPreview,
                                 reviewRequest.languageName,
                                 reviewRequest.status,
                                 reviewRequest.createdAt,
-                                ExpressionUtils.as(JPAExpressions.select(count(reviewRequestComment.id))
-                                        .from(reviewRequestComment)
-                                        .where(reviewRequestComment.reviewRequest.eq(reviewRequest)), "commentCount")
+                                reviewRequest.commentCount
                         )
                 )
                 .from(reviewRequest)
                 .join(reviewRequest.requestUser, user)
                 .where(reviewRequest.languageName.eq(languageName));
 
-        List<ReviewRequestResponseDto> result = getQuerydsl().applyPagination(pageable, jpaQuery).fetch();
-
-        return PageableExecutionUtils.getPage(result, pageable, jpaQuery::fetchCount);
+        String countKey = ReviewRequestCountCache.key("LANGUAGE", null, null, languageName);
+        return fetchPage(jpaQuery, pageable, countMode, countKey);
     }
 
     @Override
@@ -353,9 +347,11 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
                 .join(reviewRequest.reviewAnswer, reviewAnswer)
                 .where(reviewRequest.reviewAnswer.answerUser.id.eq(userId));
 
+        JPAQuery<ReviewAnswerResponseDto> countQuery = jpaQuery.clone();
+        PagingExecutor.AsyncQuery<Long> totalCount = pagingExecutor.submit(countQuery::fetchCount);
         List<ReviewAnswerResponseDto> result = getQuerydsl().applyPagination(pageable, jpaQuery).fetch();
 
-        return PageableExecutionUtils.getPage(result, pageable, jpaQuery::fetchCount);
+        return PageableExecutionUtils.getPage(result, pageable, () -> pagingExecutor.await(totalCount));
     }
 
     @Override
@@ -364,6 +360,42 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
                 .where(reviewRequest.id.eq(reviewId));
     }
 
+    @Override
+    public void increaseCommentCount(Long reviewId) {
+        query.update(reviewRequest)
+                .set(reviewRequest.commentCount, reviewRequest.commentCount.add(1))
+                .where(reviewRequest.id.eq(reviewId))
+                .execute();
+    }
+
+    @Override
+    public void decreaseCommentCount(Long reviewId) {
+        query.update(reviewRequest)
+                .set(reviewRequest.commentCount, reviewRequest.commentCount.subtract(1))
+                .where(reviewRequest.id.eq(reviewId).and(reviewRequest.commentCount.gt(0)))
+                .execute();
+    }
+
+    @Override
+    public long reconcileCommentCount() {
+        JPQLQuery<Long> actualCount = JPAExpressions.select(reviewRequestComment.id.count())
+                .from(reviewRequestComment)
+                .where(reviewRequestComment.reviewRequest.eq(reviewRequest));
+
+        return query.update(reviewRequest)
+                .set(reviewRequest.commentCount, actualCount)
+                .where(reviewRequest.commentCount.ne(actualCount))
+                .execute();
+    }
+
+    @Override
+    public long fillEmptyContentPreview() {
+        return query.update(reviewRequest)
+                .set(reviewRequest.contentPreview, reviewRequest.content.substring(0, ReviewRequest.CONTENT_PREVIEW_LENGTH))
+                .where(reviewRequest.contentPreview.isNull())
+                .execute();
+    }
+
     @Override
     public RequestAndAnswerResponseDto findReviewRequestAndAnswer(Long id) {
 
@@ -384,6 +416,46 @@ public class ReviewRequestDaoImpl extends QuerydslRepositorySupport implements R
         return Objects.isNull(keyword) || keyword.isEmpty() ? null : reviewRequest.title.contains(keyword).or(reviewRequest.content.contains(keyword));
     }
 
+    /**
+     * 목록 조회 + countMode 에 따른 전체 개수 조회
+     * NONE 인 경우 size + 1 건을 조회해 다음 페이지 존재여부만 전체 개수에 반영
+     */
+    private Page<ReviewRequestResponseDto> fetchPage(JPAQuery<ReviewRequestResponseDto> jpaQuery, Pageable pageable, CountMode countMode, String countKey) {
+        if (countMode == CountMode.NONE) {
+            JPQLQuery<ReviewRequestResponseDto> pagination = getQuerydsl().applyPagination(pageable, jpaQuery);
+            List<ReviewRequestResponseDto> content = pagination.limit(pageable.getPageSize() + 1).fetch();
+            boolean hasNext = content.size() > pageable.getPageSize();
+            if (hasNext) {
+                content = content.subList(0, pageable.getPageSize());
+            }
+            return new PageImpl<>(content, pageable, pageable.getOffset() + content.size() + (hasNext ? 1 : 0));
+        }
+
+        Long cachedCount = countCache.findCount(countKey, countMode);
+        if (cachedCount != null) {
+            return new PageImpl<>(getQuerydsl().applyPagination(pageable, jpaQuery).fetch(), pageable, cachedCount);
+        }
+
+        // 캐시 미스인 경우 count 쿼리를 별도 커넥션에서 목록 조회와 동시에 실행
+        JPAQuery<ReviewRequestResponseDto> countQuery = jpaQuery.clone();
+        PagingExecutor.AsyncQuery<Long> totalCount = pagingExecutor.submit(() -> countCache.getCount(countKey, countMode, countQuery::fetchCount));
+        List<ReviewRequestResponseDto> content = getQuerydsl().applyPagination(pageable, jpaQuery).fetch();
+        return new PageImpl<>(content, pageable, pagingExecutor.await(totalCount));
+    }
+
+    private BooleanExpression afterCursor(KeysetCursor cursor, boolean isAscQuery) {
+        if (Objects.isNull(cursor)) {
+            return null;
+        }
+
+        if (isAscQuery) {
+            return reviewRequest.createdAt.gt(cursor.getCreatedAt())
+                    .or(reviewRequest.createdAt.eq(cursor.getCreatedAt()).and(reviewRequest.id.gt(cursor.getId())));
+        }
+        return reviewRequest.createdAt.lt(cursor.getCreatedAt())
+                .or(reviewRequest.createdAt.eq(cursor.getCreatedAt()).and(reviewRequest.id.lt(cursor.getId())));
+    }
+
     private BooleanExpression statusEqual(ReviewRequestStatus status) {
         return !Objects.isNull(status) && !status.equals(ReviewRequestStatus.ALL) ? reviewRequest.status.eq(status) : null;
     }
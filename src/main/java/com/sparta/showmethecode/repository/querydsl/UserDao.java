@@ -14,4 +14,15 @@ public interface UserDao {
     Page<User> getReviewerRanking(Pageable pageable, boolean isAsc);
     // 리부어 랭킹 조회 5위까지
     List<User> getReviewerRankingTop5(boolean isDesc);
+
+    // 읽지 않은 알림 수 증가/감소 (동시 알림 발생 시 유실되지 않도록 UPDATE 쿼리로 처리)
+    void increaseUnreadNotificationCount(Long userId, long count);
+    void decreaseUnreadNotificationCount(Long userId, long count);
+    // 읽지 않은 알림 수 조회
+    long getUnreadNotificationCount(Long userId);
+    // 실제 읽지 않은 알림 수와 다른 값 보정, 보정된 사용자 수 반환
+    long reconcileUnreadNotificationCount();
+
+    // 토큰 버전 증가 후 증가된 버전 반환
+    long increaseTokenVersion(Long userId);
 }
@@ -1,23 +1,31 @@
 package com.sparta.showmethecode.repository.querydsl;
 
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sparta.showmethecode.domain.*;
 import com.sparta.showmethecode.dto.response.QReviewerInfoDto;
+import com.sparta.showmethecode.repository.querydsl.util.IdPaging;
+import com.sparta.showmethecode.repository.querydsl.util.PagingExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
+import java.util.Objects;
 
 import static com.sparta.showmethecode.domain.QLanguage.language;
+import static com.sparta.showmethecode.domain.QNotification.notification;
 import static com.sparta.showmethecode.domain.QUser.user;
 
 @RequiredArgsConstructor
 public class UserDaoImpl implements UserDao {
 
     private final JPAQueryFactory query;
+    private final PagingExecutor pagingExecutor;
 
     /**
      * 언어이름으로 리뷰어 조회
@@ -37,33 +45,104 @@ public class UserDaoImpl implements UserDao {
     @Override
     public Page<User> getReviewerRanking(Pageable pageable, boolean isAsc) {
 
-        List<User> content = query.select(user)
-                .from(user)
-                .where(user.role.eq(UserRole.ROLE_REVIEWER).and(user.evalTotal.gt(0)))
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .orderBy(isAsc ? user.evalTotal.desc() : user.evalTotal.desc())
-                .fetch();
-
         JPAQuery<User> jpaQuery = query.select(user)
                 .from(user)
                 .where(user.role.eq(UserRole.ROLE_REVIEWER).and(user.evalTotal.gt(0)));
 
-
-        return PageableExecutionUtils.getPage(content, pageable, jpaQuery::fetchCount);
+        // count 쿼리는 별도 커넥션에서 목록 조회와 동시에 실행
+        JPAQuery<User> countQuery = jpaQuery.clone();
+        PagingExecutor.AsyncQuery<Long> totalCount = pagingExecutor.submit(countQuery::fetchCount);
+
+        // ID 만 페이징한 뒤 언어 목록과 함께 조회
+        List<User> content = IdPaging.fetch(
+                jpaQuery.select(user.id)
+                        .offset(pageable.getOffset())
+                        .limit(pageable.getPageSize())
+                        .orderBy(isAsc ? user.evalTotal.desc() : user.evalTotal.desc()),
+                this::findAllWithLanguages,
+                User::getId
+        );
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> pagingExecutor.await(totalCount));
     }
 
     @Override
     public List<User> getReviewerRankingTop5(boolean isDesc) {
 
-        List<User> users = query.select(user)
-                .from(user)
-                .join(user.languages, language).fetchJoin()
-                .where(user.role.eq(UserRole.ROLE_REVIEWER))
-                .limit(5)
-                .orderBy(isDesc ? user.evalTotal.desc() : user.evalTotal.desc())
-                .fetch();
+        // 언어가 등록된 리뷰어 ID 5건을 먼저 조회한 뒤 언어 목록과 함께 조회
+        List<User> users = IdPaging.fetch(
+                query.select(user.id)
+                        .from(user)
+                        .where(user.role.eq(UserRole.ROLE_REVIEWER).and(user.languages.isNotEmpty()))
+                        .limit(5)
+                        .orderBy(isDesc ? user.evalTotal.desc() : user.evalTotal.desc()),
+                this::findAllWithLanguages,
+                User::getId
+        );
 
         return users;
     }
+
+    @Override
+    public void increaseUnreadNotificationCount(Long userId, long count) {
+        query.update(user)
+                .set(user.unreadNotificationCount, user.unreadNotificationCount.add(count))
+                .where(user.id.eq(userId))
+                .execute();
+    }
+
+    @Override
+    public void decreaseUnreadNotificationCount(Long userId, long count) {
+        query.update(user)
+                .set(user.unreadNotificationCount, new CaseBuilder()
+                        .when(user.unreadNotificationCount.gt(count)).then(user.unreadNotificationCount.subtract(count))
+                        .otherwise(0L))
+                .where(user.id.eq(userId).and(user.unreadNotificationCount.gt(0)))
+                .execute();
+    }
+
+    @Override
+    public long getUnreadNotificationCount(Long userId) {
+        Long count = query.select(user.unreadNotificationCount)
+                .from(user)
+                .where(user.id.eq(userId))
+                .fetchOne();
+
+        return Objects.isNull(count) ? 0 : count;
+    }
+
+    @Override
+    public long reconcileUnreadNotificationCount() {
+        JPQLQuery<Long> actualCount = JPAExpressions.select(notification.id.count())
+                .from(notification)
+                .where(notification.receiver.eq(user).and(notification.isRead.isFalse()));
+
+        return query.update(user)
+                .set(user.unreadNotificationCount, actualCount)
+                .where(user.unreadNotificationCount.ne(actualCount))
+                .execute();
+    }
+
+    @Override
+    public long increaseTokenVersion(Long userId) {
+        query.update(user)
+                .set(user.tokenVersion, user.tokenVersion.add(1))
+                .where(user.id.eq(userId))
+                .execute();
+
+        Long version = query.select(user.tokenVersion)
+                .from(user)
+                .where(user.id.eq(userId))
+                .fetchOne();
+
+        return Objects.isNull(version) ? 0 : version;
+    }
+
+    private List<User> findAllWithLanguages(List<Long> ids) {
+        return query.selectFrom(user)
+                .distinct()
+                .leftJoin(user.languages, language).fetchJoin()
+                .where(user.id.in(ids))
+                .fetch();
+    }
 }
@@ -0,0 +1,43 @@
+package com.sparta.showmethecode.repository.querydsl.util;
+
+import com.querydsl.jpa.JPQLQuery;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ID 먼저 페이징 후 id IN (...) 으로 본문 조회
+ *
+ * 컬렉션 fetchJoin 과 페이징을 함께 쓰면 메모리 페이징이 일어나거나 행이 늘어나므로,
+ * 정렬/페이징은 ID 만 조회하는 쿼리에서 처리하고 fetchJoin 은 본문 조회에서만 사용한다.
+ */
+public class IdPaging {
+
+    private IdPaging() {
+    }
+
+    /**
+     * 정렬/페이징이 적용된 ID 조회 쿼리 실행 후 본문 조회
+     */
+    public static <T> List<T> fetch(JPQLQuery<Long> idQuery, Function<List<Long>, List<T>> hydrator, Function<T, Long> idGetter) {
+        return hydrate(idQuery.fetch(), hydrator, idGetter);
+    }
+
+    /**
+     * id IN (...) 으로 조회한 결과를 ids 순서대로 정렬, 그 사이 삭제된 ID 는 제외
+     */
+    public static <T> List<T> hydrate(List<Long> ids, Function<List<Long>, List<T>> hydrator, Function<T, Long> idGetter) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, T> results = hydrator.apply(ids).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity(), (a, b) -> a));
+
+        return ids.stream()
+                .map(results::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
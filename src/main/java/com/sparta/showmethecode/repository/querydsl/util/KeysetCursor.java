@@ -0,0 +1,53 @@
+package com.sparta.showmethecode.repository.querydsl.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기준 키셋 페이징 커서
+ * 클라이언트에는 Base64 로 인코딩된 문자열로만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String NEXT = "n";
+    private static final String PREV = "p";
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+    private final boolean prev; // true: 커서 이전 페이지 조회, false: 커서 다음 페이지 조회
+
+    public static KeysetCursor next(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id, false);
+    }
+
+    public static KeysetCursor prev(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id, true);
+    }
+
+    public String encode() {
+        String raw = (prev ? PREV : NEXT) + DELIMITER + createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = raw.split(DELIMITER);
+            if (tokens.length != 3 || !(NEXT.equals(tokens[0]) || PREV.equals(tokens[0]))) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+
+            return new KeysetCursor(LocalDateTime.parse(tokens[1]), Long.valueOf(tokens[2]), PREV.equals(tokens[0]));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.sparta.showmethecode.repository.querydsl.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 페이징 조회 시 count 쿼리를 별도 스레드의 읽기전용 트랜잭션(별도 커넥션)에서 실행해
+ * 목록 조회와 동시에 수행되도록 한다.
+ *
+ * 호출 스레드는 이미 커넥션을 쥐고 있으므로 작업 스레드가 아직 시작하지 않았으면 호출 스레드의 커넥션에서 직접 실행하고,
+ * 시간 안에 끝나지 않으면 작업을 취소하고 QueryTimeoutException 을 던진다. (503 응답)
+ * 작업 스레드 수는 커넥션풀의 절반을 넘지 않도록 제한한다.
+ */
+@Slf4j
+@Component
+public class PagingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long timeoutMillis;
+
+    public PagingExecutor(
+            PlatformTransactionManager transactionManager,
+            @Value("${paging.executor.pool-size:4}") int poolSize,
+            @Value("${paging.executor.queue-capacity:100}") int queueCapacity,
+            @Value("${paging.executor.timeout-millis:3000}") long timeoutMillis,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+    ) {
+        int maxPoolSize = Math.max(1, connectionPoolSize / 2);
+        if (poolSize > maxPoolSize) {
+            log.warn("paging.executor.pool-size({}) 가 커넥션풀({})의 절반을 넘어 {} 로 제한", poolSize, connectionPoolSize, maxPoolSize);
+            poolSize = maxPoolSize;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread thread = new Thread(r, "paging-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // 쿼리 타임아웃으로 전파 (초 단위, 올림)
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, (timeoutMillis + 999) / 1000));
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 작업 스레드에 count 쿼리 예약, 스레드풀이 가득 찬 경우 await 시 호출 스레드에서 실행
+     */
+    public <T> AsyncQuery<T> submit(Supplier<T> query) {
+        AsyncQuery<T> asyncQuery = new AsyncQuery<>(query);
+        try {
+            asyncQuery.future = executor.submit(() -> asyncQuery.claim() ? readOnlyTransaction.execute(status -> query.get()) : null);
+        } catch (RejectedExecutionException e) {
+            log.warn("PagingExecutor 포화 상태, 호출 스레드에서 실행 active = {}", executor.getActiveCount());
+        }
+        return asyncQuery;
+    }
+
+    public <T> T await(AsyncQuery<T> asyncQuery) {
+        // 작업 스레드가 아직 시작하지 않았으면 기다리지 않고 호출 스레드의 커넥션에서 실행
+        if (asyncQuery.claim()) {
+            if (!Objects.isNull(asyncQuery.future)) {
+                asyncQuery.future.cancel(false);
+            }
+            return asyncQuery.query.get();
+        }
+
+        try {
+            return asyncQuery.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 다시 실행하면 요청 커넥션을 제한 없이 붙잡으므로 작업을 취소하고 시간 초과로 응답
+            asyncQuery.future.cancel(true);
+            throw new QueryTimeoutException("페이징 count 쿼리 시간 초과 (" + timeoutMillis + "ms)", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            asyncQuery.future.cancel(true);
+            throw new IllegalStateException("페이징 count 쿼리 대기 중 인터럽트", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 스레드와 호출 스레드 중 먼저 가져간 쪽에서 실행되는 쿼리
+     */
+    public static class AsyncQuery<T> {
+
+        private final Supplier<T> query;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile Future<T> future;
+
+        private AsyncQuery(Supplier<T> query) {
+            this.query = query;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.sparta.showmethecode.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 코드가 포함된 본문을 위한 토크나이저
+ *
+ * getUserName, get_user_name, HTTPServer 같은 식별자는 원형과 함께 각 단어로 분리하고,
+ * 띄어쓰기 없이 붙어있는 한글은 부분일치 검색을 위해 2-gram 으로 분리한다.
+ */
+public class CodeTokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && isIdentifierChar(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                addIdentifier(text.substring(start, i), tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private void addIdentifier(String identifier, List<String> tokens) {
+        addToken(identifier, tokens);
+
+        String[] snakeParts = identifier.split("_");
+        for (String snakePart : snakeParts) {
+            List<String> camelParts = splitCamelCase(snakePart);
+            if (snakeParts.length > 1 || camelParts.size() > 1) {
+                camelParts.forEach(part -> addToken(part, tokens));
+            }
+            camelParts.forEach(part -> addHangulBigrams(part, tokens));
+        }
+    }
+
+    /**
+     * camelCase, PascalCase, 약어(HTTPServer -> HTTP, Server), 숫자 경계로 분리
+     */
+    private List<String> splitCamelCase(String word) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i < word.length(); i++) {
+            char prev = word.charAt(i - 1);
+            char curr = word.charAt(i);
+            boolean lowerToUpper = Character.isLowerCase(prev) && Character.isUpperCase(curr);
+            boolean acronymEnd = Character.isUpperCase(prev) && Character.isUpperCase(curr)
+                    && i + 1 < word.length() && Character.isLowerCase(word.charAt(i + 1));
+            boolean digitBoundary = Character.isDigit(prev) != Character.isDigit(curr);
+
+            if (lowerToUpper || acronymEnd || digitBoundary) {
+                parts.add(word.substring(start, i));
+                start = i;
+            }
+        }
+        if (start < word.length()) {
+            parts.add(word.substring(start));
+        }
+        return parts;
+    }
+
+    private void addHangulBigrams(String word, List<String> tokens) {
+        if (word.length() <= MIN_TOKEN_LENGTH || !containsHangul(word)) {
+            return;
+        }
+        for (int i = 0; i + MIN_TOKEN_LENGTH <= word.length(); i++) {
+            addToken(word.substring(i, i + MIN_TOKEN_LENGTH), tokens);
+        }
+    }
+
+    private void addToken(String token, List<String> tokens) {
+        if (token.length() >= MIN_TOKEN_LENGTH) {
+            tokens.add(token.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private boolean isIdentifierChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
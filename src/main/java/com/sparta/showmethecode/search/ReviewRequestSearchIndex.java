@@ -0,0 +1,380 @@
+package com.sparta.showmethecode.search;
+
+import com.sparta.showmethecode.domain.ReviewRequest;
+import com.sparta.showmethecode.domain.ReviewRequestStatus;
+import com.sparta.showmethecode.repository.ReviewRequestRepository;
+import com.sparta.showmethecode.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 코드리뷰요청 제목+내용 검색용 메모리 역색인
+ *
+ * 요청서 등록/수정/삭제 시 커밋 이후 증분 반영하고, 주기적으로 로컬 디스크에 스냅샷을 저장한다.
+ * 재시작 시 스냅샷을 읽은 뒤 스냅샷 이후 변경된 요청서만 다시 색인한다.
+ * 요청서 상태도 함께 보관해 상태 필터링, 전체 건수, 페이징을 색인에서 처리하고 현재 페이지 ID 만 반환한다.
+ *
+ * 검색어는 토큰으로 나눠 하나라도 포함하는 요청서를 찾고(OR), 많이 일치할수록 BM25 점수가 높다.
+ * 기존 LIKE '%검색어%' 검색과 달리 검색어 전체가 붙어있지 않아도 찾고, 영문/숫자는 토큰 단위로 일치해야 한다.
+ * (한글은 2-gram 으로 색인하므로 부분일치로 찾는다. CodeTokenizer 참고)
+ */
+@Slf4j
+@Component
+public class ReviewRequestSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int BATCH_SIZE = 500;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReviewRequestRepository reviewRequestRepository;
+    private final Path snapshotPath;
+    private final CodeTokenizer tokenizer = new CodeTokenizer();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 단어 -> (요청서 ID -> 가중치 적용 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 요청서 ID -> (단어 -> 가중치 적용 빈도), 수정/삭제 시 기존 색인 제거용
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private final Map<Long, ReviewRequestStatus> statuses = new HashMap<>();
+    private long totalLength;
+
+    private volatile boolean dirty;
+
+    public ReviewRequestSearchIndex(
+            ReviewRequestRepository reviewRequestRepository,
+            @Value("${search.index.path:${user.home}/show-me-the-code/review-request.idx}") String snapshotPath
+    ) {
+        this.reviewRequestRepository = reviewRequestRepository;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    @PostConstruct
+    public void init() {
+        LocalDateTime indexedAt = loadSnapshot();
+
+        Set<Long> ids = new HashSet<>(reviewRequestRepository.findAllIds());
+        List<Long> removed = documents.keySet().stream().filter(id -> !ids.contains(id)).collect(Collectors.toList());
+        removed.forEach(this::remove);
+
+        ids.removeAll(documents.keySet());
+        List<Long> missing = new ArrayList<>(ids);
+        for (int i = 0; i < missing.size(); i += BATCH_SIZE) {
+            reviewRequestRepository.findAllById(missing.subList(i, Math.min(i + BATCH_SIZE, missing.size()))).forEach(this::index);
+        }
+        if (!Objects.isNull(indexedAt)) {
+            reviewRequestRepository.findByUpdatedAtAfter(indexedAt).forEach(this::index);
+        }
+
+        log.info("ReviewRequestSearchIndex 초기화 완료 documents = {}, terms = {}", documents.size(), postings.size());
+    }
+
+    /**
+     * 요청서 등록/수정 시 호출, 트랜잭션 안에서는 커밋 이후에 반영
+     */
+    public void indexAfterCommit(ReviewRequest reviewRequest) {
+        Long id = reviewRequest.getId();
+        String title = reviewRequest.getTitle();
+        String content = reviewRequest.getContent();
+        ReviewRequestStatus status = reviewRequest.getStatus();
+        TransactionUtils.runAfterCommit(() -> index(id, title, content, status));
+    }
+
+    /**
+     * 요청서 상태 변경 시 호출, 트랜잭션 안에서는 커밋 이후에 반영
+     */
+    public void updateStatusAfterCommit(Long id, ReviewRequestStatus status) {
+        TransactionUtils.runAfterCommit(() -> updateStatus(id, status));
+    }
+
+    /**
+     * 요청서 삭제 시 호출, 트랜잭션 안에서는 커밋 이후에 반영
+     */
+    public void removeAfterCommit(Long id) {
+        TransactionUtils.runAfterCommit(() -> remove(id));
+    }
+
+    /**
+     * 검색어와 일치하고 상태가 같은 요청서 중 관련도 순으로 offset 부터 size 개의 ID 와 전체 건수를 반환
+     * 전체를 정렬하지 않고 offset + size 크기의 힙으로 상위 결과만 남긴다.
+     */
+    public SearchResult search(String keyword, ReviewRequestStatus status, long offset, int size) {
+        Set<String> terms = new HashSet<>(tokenizer.tokenize(keyword));
+        if (terms.isEmpty()) {
+            return new SearchResult(Collections.emptyList(), 0);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 0 : (double) totalLength / documentCount;
+
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (Objects.isNull(posting)) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (documentCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((id, frequency) -> {
+                    if (!isStatusMatched(id, status)) {
+                        return;
+                    }
+                    double lengthNorm = 1 - B + B * documentLengths.get(id) / averageLength;
+                    double score = idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+                    scores.merge(id, score, Double::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 점수 내림차순, 같은 점수는 최신(ID 가 큰) 요청서 우선
+        Comparator<Map.Entry<Long, Double>> ranking = Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+        int limit = (int) Math.min(offset + size, scores.size());
+        if (offset >= limit) {
+            return new SearchResult(Collections.emptyList(), scores.size());
+        }
+
+        // 가장 순위가 낮은 항목이 맨 앞에 오는 크기 limit 의 힙
+        PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit, ranking.reversed());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            if (top.size() < limit) {
+                top.offer(entry);
+            } else if (ranking.compare(entry, top.peek()) < 0) {
+                top.poll();
+                top.offer(entry);
+            }
+        }
+
+        List<Long> ids = top.stream()
+                .sorted(ranking)
+                .skip(offset)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        return new SearchResult(ids, scores.size());
+    }
+
+    private boolean isStatusMatched(Long id, ReviewRequestStatus status) {
+        return Objects.isNull(status) || status.equals(ReviewRequestStatus.ALL) || status.equals(statuses.get(id));
+    }
+
+    @Scheduled(fixedDelay = 1000 * 60 * 10)
+    public void saveSnapshotIfDirty() {
+        if (dirty) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        // 스냅샷 복사 중 커밋된 변경이 누락되지 않도록 여유를 둔다.
+        LocalDateTime indexedAt = LocalDateTime.now().minusMinutes(1);
+        Map<Long, Map<String, Integer>> copy = new HashMap<>();
+        Map<Long, ReviewRequestStatus> statusCopy;
+
+        lock.readLock().lock();
+        try {
+            documents.forEach((id, terms) -> copy.put(id, new HashMap<>(terms)));
+            statusCopy = new HashMap<>(statuses);
+            dirty = false;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                writeSnapshot(out, indexedAt, copy, statusCopy);
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.error("ReviewRequestSearchIndex 스냅샷 저장 실패 path = {}", snapshotPath, e);
+        }
+    }
+
+    private LocalDateTime loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 버전");
+            }
+            LocalDateTime indexedAt = LocalDateTime.parse(readString(in));
+
+            int documentCount = readCount(in);
+            for (int i = 0; i < documentCount; i++) {
+                long id = in.readLong();
+                ReviewRequestStatus status = ReviewRequestStatus.valueOf(readString(in));
+                int termCount = readCount(in);
+                Map<String, Integer> frequencies = new HashMap<>();
+                for (int j = 0; j < termCount; j++) {
+                    frequencies.put(readString(in), in.readInt());
+                }
+                putDocument(id, frequencies, status);
+            }
+            return indexedAt;
+        } catch (IOException | DateTimeParseException | IllegalArgumentException e) {
+            log.warn("ReviewRequestSearchIndex 스냅샷 로드 실패, 전체 색인 path = {}", snapshotPath, e);
+            clear();
+            return null;
+        }
+    }
+
+    /**
+     * 스냅샷 형식: 버전, 색인 시각, 문서 수, (문서 ID, 상태, 단어 수, (단어, 빈도)...)...
+     * 자바 직렬화는 사용하지 않는다.
+     */
+    private void writeSnapshot(DataOutputStream out, LocalDateTime indexedAt, Map<Long, Map<String, Integer>> snapshot,
+                               Map<Long, ReviewRequestStatus> snapshotStatuses) throws IOException {
+        out.writeInt(SNAPSHOT_VERSION);
+        writeString(out, indexedAt.toString());
+        out.writeInt(snapshot.size());
+        for (Map.Entry<Long, Map<String, Integer>> document : snapshot.entrySet()) {
+            out.writeLong(document.getKey());
+            writeString(out, snapshotStatuses.get(document.getKey()).name());
+            out.writeInt(document.getValue().size());
+            for (Map.Entry<String, Integer> term : document.getValue().entrySet()) {
+                writeString(out, term.getKey());
+                out.writeInt(term.getValue());
+            }
+        }
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("손상된 스냅샷");
+        }
+        return count;
+    }
+
+    private void index(ReviewRequest reviewRequest) {
+        index(reviewRequest.getId(), reviewRequest.getTitle(), reviewRequest.getContent(), reviewRequest.getStatus());
+    }
+
+    private void index(Long id, String title, String content, ReviewRequestStatus status) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenizer.tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenizer.tokenize(content).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        putDocument(id, frequencies, status);
+    }
+
+    private void putDocument(Long id, Map<String, Integer> frequencies, ReviewRequestStatus status) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            documents.put(id, frequencies);
+            statuses.put(id, status);
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, frequency));
+
+            int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+            documentLengths.put(id, length);
+            totalLength += length;
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void updateStatus(Long id, ReviewRequestStatus status) {
+        lock.writeLock().lock();
+        try {
+            // 색인되지 않은 요청서(삭제됨)는 무시
+            if (documents.containsKey(id)) {
+                statuses.put(id, status);
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeDocument(Long id) {
+        Map<String, Integer> frequencies = documents.remove(id);
+        if (Objects.isNull(frequencies)) {
+            return;
+        }
+
+        frequencies.keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        });
+        totalLength -= documentLengths.remove(id);
+        statuses.remove(id);
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            statuses.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchResult {
+        // 현재 페이지의 요청서 ID (관련도 순)
+        private final List<Long> ids;
+        private final long total;
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparta.showmethecode.search;
+
+import com.sparta.showmethecode.dto.response.SuggestionResponseDto;
+import com.sparta.showmethecode.repository.ReviewRequestRepository;
+import com.sparta.showmethecode.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 검색창 자동완성
+ * 요청서 제목의 단어와 언어이름을 요청서 수(빈도)와 함께 트라이에 유지한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReviewRequestSuggester {
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 50;
+
+    private final ReviewRequestRepository reviewRequestRepository;
+
+    private final SuggestionTrie trie = new SuggestionTrie();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void init() {
+        List<Object[]> rows = reviewRequestRepository.findAllTitleAndLanguageName();
+        rows.forEach(row -> apply((String) row[0], (String) row[1], 1));
+        log.info("ReviewRequestSuggester 초기화 완료 requests = {}", rows.size());
+    }
+
+    /**
+     * 요청서 등록 시 호출, 트랜잭션 안에서는 커밋 이후에 반영
+     */
+    public void addAfterCommit(String title, String languageName) {
+        TransactionUtils.runAfterCommit(() -> apply(title, languageName, 1));
+    }
+
+    /**
+     * 요청서 삭제 시 호출, 트랜잭션 안에서는 커밋 이후에 반영
+     */
+    public void removeAfterCommit(String title, String languageName) {
+        TransactionUtils.runAfterCommit(() -> apply(title, languageName, -1));
+    }
+
+    /**
+     * 요청서 수정 시 호출, 트랜잭션 안에서는 커밋 이후에 반영
+     */
+    public void updateAfterCommit(String oldTitle, String newTitle, String languageName) {
+        TransactionUtils.runAfterCommit(() -> {
+            apply(oldTitle, languageName, -1);
+            apply(newTitle, languageName, 1);
+        });
+    }
+
+    public List<SuggestionResponseDto> suggest(String prefix, int size) {
+        String normalized = prefix.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            return trie.search(normalized, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(String title, String languageName, long delta) {
+        Set<String> terms = extractTerms(title);
+        if (!Objects.isNull(languageName) && !languageName.isEmpty()) {
+            terms.add(languageName.toLowerCase(Locale.ROOT));
+        }
+
+        lock.writeLock().lock();
+        try {
+            terms.forEach(term -> trie.add(term, delta));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목을 공백/구두점 기준으로 분리, 요청서 한 건에서 같은 단어는 한 번만 센다.
+     */
+    private Set<String> extractTerms(String title) {
+        Set<String> terms = new HashSet<>();
+        if (Objects.isNull(title)) {
+            return terms;
+        }
+
+        for (String token : title.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}_+#.]+")) {
+            String term = trimDots(token);
+            if (term.length() >= MIN_TERM_LENGTH && term.length() <= MAX_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private String trimDots(String token) {
+        int start = 0;
+        int end = token.length();
+        while (start < end && token.charAt(start) == '.') {
+            start++;
+        }
+        while (end > start && token.charAt(end - 1) == '.') {
+            end--;
+        }
+        return token.substring(start, end);
+    }
+}
@@ -0,0 +1,212 @@
+package com.sparta.showmethecode.search;
+
+import com.sparta.showmethecode.dto.response.SuggestionResponseDto;
+
+import java.util.*;
+
+/**
+ * 자동완성용 압축 트라이 (Radix Trie)
+ *
+ * 각 노드는 하위 트리의 최대 빈도를 유지하고, 조회 시 이 값을 상한으로 사용해
+ * 빈도가 높은 노드부터 탐색하므로 접두사 아래 전체를 순회하지 않고 상위 N 개를 찾는다.
+ * 동기화는 호출하는 쪽에서 처리한다.
+ */
+public class SuggestionTrie {
+
+    private final Node root = new Node("");
+
+    public void add(String term, long delta) {
+        if (delta > 0) {
+            increase(term, delta);
+        } else if (delta < 0) {
+            decrease(term, -delta);
+        }
+    }
+
+    /**
+     * prefix 로 시작하는 단어를 빈도 내림차순으로 최대 limit 개 반환
+     */
+    public List<SuggestionResponseDto> search(String prefix, int limit) {
+        List<SuggestionResponseDto> results = new ArrayList<>();
+        if (limit <= 0) {
+            return results;
+        }
+
+        Node node = root;
+        StringBuilder consumed = new StringBuilder();
+        int i = 0;
+        while (i < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(i));
+            if (child == null) {
+                return results;
+            }
+
+            String rest = prefix.substring(i);
+            if (rest.length() <= child.label.length()) {
+                if (!child.label.startsWith(rest)) {
+                    return results;
+                }
+            } else if (!rest.startsWith(child.label)) {
+                return results;
+            }
+
+            consumed.append(child.label);
+            i += child.label.length();
+            node = child;
+        }
+
+        // 노드 항목은 하위 최대 빈도(상한), 단어 항목은 실제 빈도로 정렬
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(new Candidate(node, consumed.toString(), node.maxCount, false));
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.isTerm) {
+                results.add(new SuggestionResponseDto(candidate.text, candidate.priority));
+                continue;
+            }
+
+            Node current = candidate.node;
+            if (current.count > 0) {
+                queue.add(new Candidate(current, candidate.text, current.count, true));
+            }
+            for (Node child : current.children.values()) {
+                queue.add(new Candidate(child, candidate.text + child.label, child.maxCount, false));
+            }
+        }
+        return results;
+    }
+
+    public boolean isEmpty() {
+        return root.children.isEmpty();
+    }
+
+    private void increase(String term, long delta) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int i = 0;
+        while (true) {
+            path.push(node);
+            if (i == term.length()) {
+                node.count += delta;
+                break;
+            }
+
+            Node child = node.children.get(term.charAt(i));
+            if (child == null) {
+                Node leaf = new Node(term.substring(i));
+                leaf.count = delta;
+                leaf.maxCount = delta;
+                node.children.put(leaf.label.charAt(0), leaf);
+                break;
+            }
+
+            int common = commonPrefixLength(child.label, term, i);
+            if (common < child.label.length()) {
+                // 공통 접두사까지를 새 노드로 분리
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                middle.maxCount = child.maxCount;
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+
+            i += common;
+            node = child;
+        }
+
+        path.forEach(Node::updateMaxCount);
+    }
+
+    private void decrease(String term, long delta) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int i = 0;
+        while (i < term.length()) {
+            path.push(node);
+            Node child = node.children.get(term.charAt(i));
+            if (child == null || !term.startsWith(child.label, i)) {
+                return;
+            }
+            i += child.label.length();
+            node = child;
+        }
+
+        node.count = Math.max(0, node.count - delta);
+        node.updateMaxCount();
+        prune(node, path);
+    }
+
+    /**
+     * 빈도가 0 인 말단 노드 제거, 자식이 하나뿐인 노드는 자식과 병합
+     */
+    private void prune(Node node, Deque<Node> ancestors) {
+        Node current = node;
+        while (!ancestors.isEmpty()) {
+            Node parent = ancestors.pop();
+            if (current.count == 0 && current.children.isEmpty()) {
+                parent.children.remove(current.label.charAt(0));
+            } else if (current.count == 0 && current.children.size() == 1) {
+                Node only = current.children.values().iterator().next();
+                only.label = current.label + only.label;
+                parent.children.put(only.label.charAt(0), only);
+            }
+            parent.updateMaxCount();
+            current = parent;
+        }
+    }
+
+    private int commonPrefixLength(String label, String term, int offset) {
+        int max = Math.min(label.length(), term.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == term.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static class Node {
+        private String label;
+        private long count;
+        private long maxCount;
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void updateMaxCount() {
+            long max = count;
+            for (Node child : children.values()) {
+                max = Math.max(max, child.maxCount);
+            }
+            maxCount = max;
+        }
+    }
+
+    private static class Candidate implements Comparable<Candidate> {
+        private final Node node;
+        private final String text;
+        private final long priority;
+        private final boolean isTerm;
+
+        private Candidate(Node node, String text, long priority, boolean isTerm) {
+            this.node = node;
+            this.text = text;
+            this.priority = priority;
+            this.isTerm = isTerm;
+        }
+
+        @Override
+        public int compareTo(Candidate o) {
+            if (priority != o.priority) {
+                return Long.compare(o.priority, priority);
+            }
+            // 같은 빈도라면 단어를 먼저, 그 다음 사전순
+            if (isTerm != o.isTerm) {
+                return isTerm ? -1 : 1;
+            }
+            return text.compareTo(o.text);
+        }
+    }
+}
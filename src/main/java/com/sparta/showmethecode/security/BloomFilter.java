@@ -0,0 +1,58 @@
+package com.sparta.showmethecode.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 다이제스트용 블룸필터
+ *
+ * mightContain 이 false 면 확실히 없는 값이고, true 면 오탐일 수 있으므로 정확한 집합에서 다시 확인해야 한다.
+ * 값을 삭제할 수 없으므로 만료된 값을 정리하려면 새로 만들어야 한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedEntries, double falsePositiveRate) {
+        long n = Math.max(expectedEntries, 1);
+        this.bitSize = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    public void put(TokenDigest digest) {
+        long hash1 = digest.hash1();
+        long hash2 = digest.hash2();
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(TokenDigest digest) {
+        long hash1 = digest.hash1();
+        long hash2 = digest.hash2();
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hash1, hash2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 두 해시를 조합해 k 개의 해시를 만든다. (Kirsch-Mitzenmacher)
+    private long index(long hash1, long hash2, int i) {
+        return ((hash1 + i * hash2) & Long.MAX_VALUE) % bitSize;
+    }
+}
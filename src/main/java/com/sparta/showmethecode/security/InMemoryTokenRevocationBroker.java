@@ -0,0 +1,31 @@
+package com.sparta.showmethecode.security;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 한 JVM 안에서 동작하는 토큰 폐기 브로커
+ * 같은 인스턴스를 공유하는 여러 InMemoryTokenRevocationBus 가 서로의 메시지를 받는다.
+ */
+@Slf4j
+public class InMemoryTokenRevocationBroker {
+
+    private final List<Consumer<TokenRevocationMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    public void publish(TokenRevocationMessage message) {
+        for (Consumer<TokenRevocationMessage> subscriber : subscribers) {
+            try {
+                subscriber.accept(message);
+            } catch (RuntimeException e) {
+                log.error("토큰 폐기 구독자 처리 실패 expiresAt = {}", message.getExpiresAt(), e);
+            }
+        }
+    }
+
+    public void subscribe(Consumer<TokenRevocationMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+}
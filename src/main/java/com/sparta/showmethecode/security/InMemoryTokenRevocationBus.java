@@ -0,0 +1,33 @@
+package com.sparta.showmethecode.security;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * 메모리 기반 토큰 폐기 버스 (기본값)
+ * InMemoryTokenRevocationBroker 빈이 없으면 자기 자신에게만 전달하는 단일 서버용으로 동작한다.
+ * 여러 서버로 운영할 때는 security.revocation.bus.type 을 바꾸고 외부 브로커 구현을 등록한다.
+ */
+@ConditionalOnProperty(name = "security.revocation.bus.type", havingValue = "memory", matchIfMissing = true)
+@Component
+public class InMemoryTokenRevocationBus implements TokenRevocationBus {
+
+    private final InMemoryTokenRevocationBroker broker;
+
+    public InMemoryTokenRevocationBus(ObjectProvider<InMemoryTokenRevocationBroker> broker) {
+        this.broker = broker.getIfAvailable(InMemoryTokenRevocationBroker::new);
+    }
+
+    @Override
+    public void publish(TokenRevocationMessage message) {
+        broker.publish(message);
+    }
+
+    @Override
+    public void subscribe(Consumer<TokenRevocationMessage> subscriber) {
+        broker.subscribe(subscriber);
+    }
+}
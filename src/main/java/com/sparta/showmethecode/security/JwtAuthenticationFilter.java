@@ -1,11 +1,12 @@
 package com.sparta.showmethecode.security;
 
+import com.sparta.showmethecode.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -15,46 +16,68 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Collection;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserDetailsServiceImpl userDetailsService;
+    private final UserDetailsCache userDetailsCache;
     private final JwtUtils jwtUtils;
+    private final TokenVersionStore tokenVersionStore;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        String authorization = request.getHeader("Authorization");
-//        log.info(authorization);
-        if (authorization != null && authorization.startsWith("Bearer ")) {
-            String token = authorization.substring(7);
-//            log.info("token: {}", token);
-
-            if (SecurityContextHolder.getContext().getAuthentication() == null && jwtUtils.isValidToken(token)) {
-                TokenDto userInfo = jwtUtils.getUserInfo(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userInfo.getUsername());
-//                log.info("userDetails username: {}", userDetails.getUsername());
-//                log.info("userDetails authority: {}", userDetails.getAuthorities());
-                Collection<? extends GrantedAuthority> authorities = userDetails.getAuthorities();
-                for (GrantedAuthority authority : authorities) {
-//                    log.info("filter authority: {}", authority.getAuthority());
-                }
-
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            } else {
-                if (SecurityContextHolder.getContext().getAuthentication() != null){
-//                    log.info("authentication: {}", SecurityContextHolder.getContext().getAuthentication().getPrincipal());
-                }
+        String token = JwtUtils.resolveBearerToken(request.getHeader("Authorization"));
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // 토큰은 한 번만 파싱하고, 사용자 정보를 담은 토큰은 DB 조회 없이 인증
+            TokenDto userInfo = jwtUtils.parseToken(token);
+            if (!Objects.isNull(userInfo) && userInfo.isSelfContained()) {
+                authenticateWithClaims(request, userInfo);
+            } else if (!Objects.isNull(userInfo)) {
+                authenticate(request, userInfo.getUsername());
             }
         }
 
         filterChain.doFilter(request, response);
 
     }
+
+    private void authenticateWithClaims(HttpServletRequest request, TokenDto userInfo) {
+        if (!tokenVersionStore.isValid(userInfo.getUserId(), userInfo.getVersion())) {
+            log.debug("무효화된 토큰 userId = {}, version = {}", userInfo.getUserId(), userInfo.getVersion());
+            return;
+        }
+
+        // 토큰의 id, username, nickname, role, 토큰 버전만 담은 비영속 User (그 외 필드는 비어있음)
+        // 엔티티 연관관계에 넣을 때는 userRepository.getOne(id) 로 영속 참조를 얻어야 한다.
+        User user = User.builder()
+                .id(userInfo.getUserId())
+                .username(userInfo.getUsername())
+                .nickname(userInfo.getNickname())
+                .role(userInfo.getRole())
+                .tokenVersion(userInfo.getVersion())
+                .build();
+        setAuthentication(request, new UserDetailsImpl(user));
+    }
+
+    private void authenticate(HttpServletRequest request, String username) {
+        UserDetails userDetails;
+        try {
+            userDetails = userDetailsCache.get(username);
+        } catch (UsernameNotFoundException e) {
+            log.debug("토큰의 사용자가 존재하지 않음 username = {}", username);
+            return;
+        }
+
+        setAuthentication(request, userDetails);
+    }
+
+    private void setAuthentication(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -1,6 +1,9 @@
 package com.sparta.showmethecode.security;
 
+import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.domain.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
@@ -8,21 +11,47 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Slf4j
 @Component
 public class JwtUtils {
 
-    private final UserDetailsServiceImpl userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final String JWT_SECRET = "secret";
     private final SignatureAlgorithm SIGNATURE = SignatureAlgorithm.HS256;
 
-    public String createToken(String username) {
+    /**
+     * Authorization 헤더에서 토큰 추출, Bearer 형식이 아니면 null
+     */
+    public static String resolveBearerToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authorization.substring(BEARER_PREFIX.length());
+    }
+
+    /**
+     * 사용자 ID, 권한, 토큰 버전을 담은 토큰 생성
+     * 인증 필터에서 사용자를 조회하지 않고 토큰만으로 인증 정보를 만든다.
+     */
+    public String createToken(User user) {
 
         Claims claims = Jwts.claims();
-        claims.put("username", username);
+        claims.put("username", user.getUsername());
+        claims.put("userId", user.getId());
+        claims.put("nickname", user.getNickname());
+        claims.put("role", user.getRole().name());
+        claims.put("ver", user.getTokenVersion());
+
+        return createToken(claims);
+    }
 
+    private String createToken(Claims claims) {
         return Jwts.builder()
                 .setClaims(claims)
                 .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60))
@@ -36,18 +65,90 @@ public class JwtUtils {
         return Long.valueOf(String.valueOf(claims.get("userId")));
     }
 
-    public boolean isValidToken(String token){
-        Claims claims = getAllClaims(token);
+    /**
+     * 토큰을 한 번만 파싱해서 서명과 만료시간을 검증하고 사용자 정보를 반환
+     * 이미 검증한 토큰은 만료 전까지 캐시된 결과를 사용, 유효하지 않거나 폐기된 토큰이면 null
+     */
+    public TokenDto parseToken(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        if (tokenRevocationStore.isRevoked(digest)) {
+            return null;
+        }
+
+        TokenDto cached = verifiedTokenCache.find(digest);
+        if (!Objects.isNull(cached)) {
+            return cached;
+        }
+
+        try {
+            Claims claims = getAllClaims(token);
+            TokenDto tokenDto = toTokenDto(claims);
+            if (!Objects.isNull(tokenDto) && !Objects.isNull(claims.getExpiration())) {
+                verifiedTokenCache.put(digest, tokenDto, claims.getExpiration().getTime());
+            }
+            return tokenDto;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 토큰 = {}", e.getMessage());
+            return null;
+        }
+    }
 
-        Date expiration = claims.getExpiration();
-        String username = String.valueOf(claims.get("username"));
+    /**
+     * 토큰 폐기 (로그아웃), 토큰 만료시간까지 폐기 목록에 보관
+     */
+    public void revokeToken(String token) {
+        try {
+            Claims claims = getAllClaims(token);
+            if (!Objects.isNull(claims.getExpiration())) {
+                tokenRevocationStore.revoke(TokenDigest.of(token), claims.getExpiration().getTime());
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 토큰은 폐기하지 않음 = {}", e.getMessage());
+        }
+    }
 
-        return expiration.after(new Date()) && userDetailsService.loadUserByUsername(username) != null;
+    /**
+     * 클레임 타입을 확인해서 사용자 정보로 변환, 형식이 맞지 않으면 null
+     * userId 가 없는 토큰은 사용자 정보를 담기 전에 발급된 토큰으로 보고 username 만 반환한다.
+     */
+    private TokenDto toTokenDto(Claims claims) {
+        Object username = claims.get("username");
+        if (!(username instanceof String)) {
+            return null;
+        }
+
+        Object userId = claims.get("userId");
+        if (Objects.isNull(userId)) {
+            return TokenDto.builder().username((String) username).build();
+        }
+
+        Object version = claims.get("ver");
+        UserRole role = toUserRole(claims.get("role"));
+        if (!(userId instanceof Number) || !(version instanceof Number) || Objects.isNull(role)) {
+            log.debug("토큰 클레임 형식 오류 userId = {}, role = {}, ver = {}", userId, claims.get("role"), version);
+            return null;
+        }
+
+        Object nickname = claims.get("nickname");
+        return TokenDto.builder()
+                .username((String) username)
+                .userId(((Number) userId).longValue())
+                .nickname(nickname instanceof String ? (String) nickname : null)
+                .role(role)
+                .version(((Number) version).longValue())
+                .build();
     }
 
-    public TokenDto getUserInfo(String token) {
-        Claims claims = getAllClaims(token);
-        return new TokenDto(claims.get("username").toString());
+    private UserRole toUserRole(Object role) {
+        if (!(role instanceof String)) {
+            return null;
+        }
+        for (UserRole userRole : UserRole.values()) {
+            if (userRole.name().equals(role)) {
+                return userRole;
+            }
+        }
+        return null;
     }
 
     private Claims getAllClaims(String token) {
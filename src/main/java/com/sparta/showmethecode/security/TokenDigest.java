@@ -0,0 +1,55 @@
+package com.sparta.showmethecode.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰의 SHA-256 다이제스트
+ * 토큰 원문 대신 메모리/디스크에 보관하는 키로 사용한다.
+ */
+public class TokenDigest {
+
+    public static final int LENGTH = 32;
+
+    private final byte[] bytes;
+    private final String key;
+
+    private TokenDigest(byte[] bytes) {
+        this.bytes = bytes;
+        this.key = Base64.getEncoder().encodeToString(bytes);
+    }
+
+    public static TokenDigest of(String token) {
+        try {
+            return new TokenDigest(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static TokenDigest fromBytes(byte[] bytes) {
+        return new TokenDigest(bytes.clone());
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    /**
+     * 블룸필터용 해시 (다이제스트 앞 16바이트를 두 개의 long 으로 사용)
+     */
+    public long hash1() {
+        return ByteBuffer.wrap(bytes, 0, 8).getLong();
+    }
+
+    public long hash2() {
+        return ByteBuffer.wrap(bytes, 8, 8).getLong();
+    }
+}
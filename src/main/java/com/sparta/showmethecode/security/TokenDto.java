@@ -1,5 +1,6 @@
 package com.sparta.showmethecode.security;
 
+import com.sparta.showmethecode.domain.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,4 +12,14 @@ import lombok.NoArgsConstructor;
 @Builder
 public class TokenDto {
     private String username;
+
+    // 아래 값은 사용자 정보를 담은 토큰에만 존재 (username 만 담은 토큰은 userId 가 null)
+    private Long userId;
+    private String nickname;
+    private UserRole role;
+    private long version;
+
+    public boolean isSelfContained() {
+        return userId != null;
+    }
 }
@@ -0,0 +1,14 @@
+package com.sparta.showmethecode.security;
+
+import java.util.function.Consumer;
+
+/**
+ * 서버 간 토큰 폐기 전달 통로
+ * 한 서버에서 로그아웃한 토큰이 다른 서버에서도 바로 거부되도록 모든 서버의 TokenRevocationStore 에 전달한다.
+ */
+public interface TokenRevocationBus {
+
+    void publish(TokenRevocationMessage message);
+
+    void subscribe(Consumer<TokenRevocationMessage> subscriber);
+}
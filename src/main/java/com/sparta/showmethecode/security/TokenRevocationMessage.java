@@ -0,0 +1,14 @@
+package com.sparta.showmethecode.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서버 간 토큰 폐기 메시지, 토큰 원문 대신 다이제스트만 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenRevocationMessage {
+    private final byte[] digest;
+    private final long expiresAt;
+}
@@ -0,0 +1,172 @@
+package com.sparta.showmethecode.security;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그아웃 등으로 폐기된 토큰 저장소
+ *
+ * 대부분의 토큰은 폐기되지 않았으므로 블룸필터로 먼저 확인하고, 블룸필터에 있을 때만 정확한 집합에서 확인한다.
+ * 항목은 토큰 만료시간까지만 보관하며, 주기적으로 만료된 항목을 정리하면서 블룸필터를 다시 만든다.
+ * 폐기한 토큰은 TokenRevocationBus 로 다른 서버에도 전달하고,
+ * 재시작 시 복구할 수 있도록 로컬 디스크에 스냅샷을 저장한다. 스냅샷을 읽을 수 없으면 폐기된 토큰이 다시 유효해지므로 시작을 중단한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final TokenRevocationBus tokenRevocationBus;
+    private final Path snapshotPath;
+    private final int expectedEntries;
+
+    private final Map<String, RevokedToken> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter bloomFilter;
+    private volatile boolean dirty;
+
+    public TokenRevocationStore(
+            TokenRevocationBus tokenRevocationBus,
+            @Value("${security.revocation.path:${user.home}/show-me-the-code/revoked-tokens.dat}") String snapshotPath,
+            @Value("${security.revocation.expected-entries:100000}") int expectedEntries
+    ) {
+        this.tokenRevocationBus = tokenRevocationBus;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.expectedEntries = expectedEntries;
+        this.bloomFilter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    public void init() {
+        loadSnapshot();
+        tokenRevocationBus.subscribe(message -> add(TokenDigest.fromBytes(message.getDigest()), message.getExpiresAt()));
+        log.info("TokenRevocationStore 초기화 완료 revoked = {}", revoked.size());
+    }
+
+    public boolean isRevoked(TokenDigest digest) {
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+
+        RevokedToken token = revoked.get(digest.getKey());
+        return token != null && token.expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰 폐기, 만료시간이 지나면 자동으로 정리된다.
+     * 이 서버에 먼저 반영한 뒤 다른 서버로 전달한다.
+     */
+    public void revoke(TokenDigest digest, long expiresAt) {
+        if (!add(digest, expiresAt)) {
+            return;
+        }
+        tokenRevocationBus.publish(new TokenRevocationMessage(digest.getBytes(), expiresAt));
+    }
+
+    private synchronized boolean add(TokenDigest digest, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return false;
+        }
+
+        revoked.put(digest.getKey(), new RevokedToken(digest, expiresAt));
+        bloomFilter.put(digest);
+        dirty = true;
+        return true;
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * 만료된 항목을 정리하고 남은 항목으로 블룸필터를 다시 만든다.
+     */
+    @Scheduled(fixedDelay = 1000 * 60 * 10)
+    public synchronized void removeExpired() {
+        long now = System.currentTimeMillis();
+        boolean removed = revoked.values().removeIf(token -> token.expiresAt <= now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.values().forEach(token -> rebuilt.put(token.digest));
+        bloomFilter = rebuilt;
+
+        if (removed) {
+            dirty = true;
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000 * 10)
+    public void saveSnapshotIfDirty() {
+        if (dirty) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        long now = System.currentTimeMillis();
+        List<RevokedToken> tokens = new ArrayList<>();
+        synchronized (this) {
+            revoked.values().stream().filter(token -> token.expiresAt > now).forEach(tokens::add);
+            dirty = false;
+        }
+
+        try {
+            Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+            Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                out.writeInt(tokens.size());
+                for (RevokedToken token : tokens) {
+                    out.write(token.digest.getBytes());
+                    out.writeLong(token.expiresAt);
+                }
+            }
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty = true;
+            log.error("TokenRevocationStore 스냅샷 저장 실패 path = {}", snapshotPath, e);
+        }
+    }
+
+    private void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("잘못된 항목 수 = " + count);
+            }
+            byte[] bytes = new byte[TokenDigest.LENGTH];
+            for (int i = 0; i < count; i++) {
+                in.readFully(bytes);
+                add(TokenDigest.fromBytes(bytes), in.readLong());
+            }
+            dirty = false;
+        } catch (IOException e) {
+            throw new IllegalStateException("TokenRevocationStore 스냅샷 로드 실패 path = " + snapshotPath, e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class RevokedToken {
+        private final TokenDigest digest;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,63 @@
+package com.sparta.showmethecode.security;
+
+import com.sparta.showmethecode.repository.UserRepository;
+import com.sparta.showmethecode.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 토큰 버전 저장소
+ *
+ * 토큰에 담긴 버전이 현재 버전보다 낮으면 무효로 판단한다.
+ * 버전이 증가한 적 있는 사용자만 메모리에 보관하므로 요청마다 DB 를 조회하지 않는다.
+ * 다른 서버에서 증가시킨 버전은 주기적인 갱신 이후에 반영된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TokenVersionStore {
+
+    private final UserRepository userRepository;
+
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+        log.info("TokenVersionStore 초기화 완료 users = {}", versions.size());
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-version.refresh-millis:60000}")
+    public void refresh() {
+        userRepository.findAllTokenVersions()
+                .forEach(row -> raise((Long) row[0], (Long) row[1]));
+    }
+
+    public long currentVersion(Long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    public boolean isValid(Long userId, long version) {
+        return version >= currentVersion(userId);
+    }
+
+    /**
+     * 사용자의 기존 토큰을 모두 무효화, 트랜잭션 안에서는 커밋 이후에 반영
+     */
+    @Transactional
+    public void revokeAll(Long userId) {
+        long version = userRepository.increaseTokenVersion(userId);
+        TransactionUtils.runAfterCommit(() -> raise(userId, version));
+    }
+
+    private void raise(Long userId, long version) {
+        versions.merge(userId, version, Math::max);
+    }
+}
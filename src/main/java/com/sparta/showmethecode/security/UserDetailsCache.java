@@ -0,0 +1,97 @@
+package com.sparta.showmethecode.security;
+
+import com.sparta.showmethecode.util.TransactionUtils;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 인증 필터에서 사용하는 사용자 정보 캐시
+ *
+ * 요청마다 사용자를 조회하지 않도록 username 별 UserDetails 를 짧은 TTL 동안 보관한다.
+ * 사용자 정보가 변경되면 커밋 이후 해당 사용자를 무효화하고, 다른 서버에서 발생한 변경은 TTL 이후에 반영된다.
+ * MAX_ENTRIES 를 넘으면 가장 오래 사용하지 않은 사용자부터 제거한다. (LRU)
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final UserDetailsServiceImpl userDetailsService;
+    private final long ttlMillis;
+
+    // 접근 순서 LinkedHashMap 은 조회도 순서를 바꾸므로 항상 entries 로 동기화
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    public UserDetailsCache(
+            UserDetailsServiceImpl userDetailsService,
+            @Value("${security.user-cache.ttl-millis:30000}") long ttlMillis
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 존재하지 않는 사용자는 캐시하지 않고 UsernameNotFoundException 을 던진다.
+     */
+    public UserDetails get(String username) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+        long generation;
+        synchronized (entries) {
+            CacheEntry entry = entries.get(username);
+            if (entry != null && entry.userDetails != null && entry.expiresAt > now) {
+                return entry.userDetails;
+            }
+            // 조회 중 해당 사용자가 무효화된 경우 오래된 값이 저장되지 않도록 조회 전 세대를 기록
+            generation = generationOf(entry);
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+
+        synchronized (entries) {
+            if (generation == generationOf(entries.get(username))) {
+                entries.put(username, new CacheEntry(userDetails, now + ttlMillis, generation));
+            }
+        }
+
+        return userDetails;
+    }
+
+    /**
+     * 사용자 정보 변경 시 호출, 트랜잭션 안에서는 커밋 이후에 무효화
+     */
+    public void evictAfterCommit(String username) {
+        TransactionUtils.runAfterCommit(() -> evict(username));
+    }
+
+    /**
+     * 값 대신 세대만 올린 항목을 남겨 진행 중인 조회 결과가 저장되지 않도록 한다. (다른 사용자의 조회에는 영향 없음)
+     */
+    public void evict(String username) {
+        synchronized (entries) {
+            long generation = generationOf(entries.get(username));
+            entries.put(username, new CacheEntry(null, 0, generation + 1));
+        }
+    }
+
+    private long generationOf(CacheEntry entry) {
+        return entry == null ? 0 : entry.generation;
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final UserDetails userDetails;
+        private final long expiresAt;
+        private final long generation;
+    }
+}
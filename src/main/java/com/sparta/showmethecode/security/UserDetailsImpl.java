@@ -1,32 +1,40 @@
 package com.sparta.showmethecode.security;
 
 import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.domain.UserRole;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
-@Slf4j
 @Getter
 @RequiredArgsConstructor
 public class UserDetailsImpl implements UserDetails {
 
+    // 권한 목록은 요청마다 여러 번 조회되므로 권한별로 미리 만들어 공유 (불변)
+    private static final Map<UserRole, Collection<GrantedAuthority>> AUTHORITIES;
+
+    static {
+        Map<UserRole, Collection<GrantedAuthority>> authorities = new EnumMap<>(UserRole.class);
+        for (UserRole role : UserRole.values()) {
+            authorities.put(role, Collections.singletonList(new SimpleGrantedAuthority(role.toString())));
+        }
+        AUTHORITIES = Collections.unmodifiableMap(authorities);
+    }
+
     private final User user;
     private boolean enabled = true;
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(this.user.getRole().toString());
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(authority);
-
-        log.info(authority.getAuthority().toString());
-        return authorities;
+        UserRole role = this.user.getRole();
+        return role == null ? Collections.emptyList() : AUTHORITIES.get(role);
     }
 
     @Override
@@ -0,0 +1,94 @@
+package com.sparta.showmethecode.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증된 토큰 캐시
+ *
+ * 같은 토큰을 반복해서 보내는 클라이언트를 위해 서명 검증과 파싱 결과를 토큰의 SHA-256 다이제스트 별로 보관한다.
+ * 토큰 원문은 보관하지 않고, 항목은 토큰 만료시간(exp)에 함께 만료된다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private final int maxSize;
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${security.token-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 만료되지 않은 검증 결과가 있으면 반환, 없으면 null
+     */
+    public TokenDto find(TokenDigest digest) {
+        String key = digest.getKey();
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        return entry.tokenDto;
+    }
+
+    public void put(TokenDigest digest, TokenDto tokenDto, long expiresAt) {
+        if (entries.size() >= maxSize) {
+            removeExpired();
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(digest.getKey(), new CacheEntry(tokenDto, expiresAt));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("security.token_cache.requests", hitCount, AtomicLong::get)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("security.token_cache.requests", missCount, AtomicLong::get)
+                .tag("result", "miss").register(registry);
+        Gauge.builder("security.token_cache.hit_ratio", this, VerifiedTokenCache::hitRatio)
+                .register(registry);
+        Gauge.builder("security.token_cache.size", entries, Map::size)
+                .register(registry);
+    }
+
+    public double hitRatio() {
+        long hit = hitCount.get();
+        long total = hit + missCount.get();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+    }
+
+    @AllArgsConstructor
+    private static class CacheEntry {
+        private final TokenDto tokenDto;
+        private final long expiresAt;
+    }
+}
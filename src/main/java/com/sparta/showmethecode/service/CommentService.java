@@ -6,12 +6,19 @@ import com.sparta.showmethecode.dto.request.UpdateCommentDto;
 import com.sparta.showmethecode.repository.ReviewAnswerCommentRepository;
 import com.sparta.showmethecode.repository.ReviewAnswerRepository;
 import com.sparta.showmethecode.repository.ReviewRequestCommentRepository;
+import com.sparta.showmethecode.repository.ReviewRequestDetailCache;
 import com.sparta.showmethecode.repository.ReviewRequestRepository;
+import com.sparta.showmethecode.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Objects;
+
 @RequiredArgsConstructor
 @Slf4j
 @Service
@@ -23,14 +30,21 @@ public class CommentService {
     private final ReviewAnswerRepository reviewAnswerRepository;
     private final ReviewAnswerCommentRepository reviewAnswerCommentRepository;
 
+    private final ReviewRequestDetailCache reviewRequestDetailCache;
+
+    private final UserRepository userRepository;
+
     /**
      * 코드리뷰요청 - 댓글추가 API
      */
     @Transactional
     public void addComment_Question(User user, Long questionId, AddCommentDto addCommentDto) {
         ReviewRequest reviewRequest = reviewRequestRepository.findById(questionId).orElseThrow(() -> new IllegalArgumentException("존재하지 않는 리뷰요청입니다."));
-        ReviewRequestComment reviewRequestComment = new ReviewRequestComment(addCommentDto.getContent(), user);
+        // 작성자는 인증 정보의 User 대신 영속 참조로 연결
+        ReviewRequestComment reviewRequestComment = new ReviewRequestComment(addCommentDto.getContent(), userRepository.getOne(user.getId()));
         reviewRequest.addComment(reviewRequestComment);
+        reviewRequestRepository.increaseCommentCount(questionId);
+        reviewRequestDetailCache.evictAfterCommit(questionId);
     }
 
     /**
@@ -38,7 +52,19 @@ public class CommentService {
      */
     @Transactional
     public long removeComment_Question(User user, Long commentId) {
-        return reviewRequestCommentRepository.deleteComment(user.getId(), commentId);
+        ReviewRequestComment reviewRequestComment = reviewRequestCommentRepository.findByIdAndUser(commentId, user);
+        if (Objects.isNull(reviewRequestComment)) {
+            return 0;
+        }
+
+        Long reviewId = reviewRequestComment.getReviewRequest().getId();
+        long row = reviewRequestCommentRepository.deleteComment(user.getId(), commentId);
+        if (row > 0) {
+            reviewRequestRepository.decreaseCommentCount(reviewId);
+            reviewRequestDetailCache.evictAfterCommit(reviewId);
+        }
+
+        return row;
     }
 
     /**
@@ -48,6 +74,7 @@ public class CommentService {
     public void updateComment_Question(User user, Long commentId, UpdateCommentDto updateCommentDto) {
         ReviewRequestComment reviewRequestComment = reviewRequestCommentRepository.findByIdAndUser(commentId, user);
         reviewRequestComment.update(updateCommentDto);
+        reviewRequestDetailCache.evictAfterCommit(reviewRequestComment.getReviewRequest().getId());
     }
 
     /**
@@ -57,7 +84,7 @@ public class CommentService {
         ReviewAnswer reviewAnswer = reviewAnswerRepository.findById(answerId).orElseThrow(
                 () -> new IllegalArgumentException("존재하지 않는 답변입니다.")
         );
-        ReviewAnswerComment reviewAnswerComment = new ReviewAnswerComment(addCommentDto.getContent(), user, reviewAnswer);
+        ReviewAnswerComment reviewAnswerComment = new ReviewAnswerComment(addCommentDto.getContent(), userRepository.getOne(user.getId()), reviewAnswer);
         reviewAnswer.addComment(reviewAnswerComment);
     }
 
@@ -75,4 +102,19 @@ public class CommentService {
     public void removeComment_Answer(User user, Long commentId) {
         reviewAnswerCommentRepository.deleteByUserAndId(user, commentId);
     }
+
+    /**
+     * 코드리뷰요청 댓글수 보정 (서버 시작 시, 매일 새벽 4시)
+     * 반정규화된 commentCount 가 실제 댓글수와 달라진 경우 복구
+     * 컬럼 추가 이전에 등록된 요청서도 시작 시 바로 채워진다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void reconcileCommentCount() {
+        long row = reviewRequestRepository.reconcileCommentCount();
+        if (row > 0) {
+            log.warn("reconcileCommentCount 보정된 리뷰요청 수 = {}", row);
+        }
+    }
 }
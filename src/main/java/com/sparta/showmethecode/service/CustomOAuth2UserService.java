@@ -5,6 +5,7 @@ import com.sparta.showmethecode.config.OAuthAttributes;
 import com.sparta.showmethecode.domain.User;
 import com.sparta.showmethecode.dto.SessionUser;
 import com.sparta.showmethecode.repository.UserRepository;
+import com.sparta.showmethecode.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -23,6 +24,7 @@ import java.util.Collections;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
     private final UserRepository userRepository;
     private final HttpSession httpSession;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -49,6 +51,8 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
         User user = userRepository.findByUsername(attributes.getEmail())
                 .map(entity -> entity.update(attributes.getName()))
                 .orElse(attributes.toEntity());
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        userDetailsCache.evict(attributes.getEmail());
+        return savedUser;
     }
 }
@@ -6,19 +6,37 @@ import com.sparta.showmethecode.domain.ReviewRequest;
 import com.sparta.showmethecode.domain.User;
 import com.sparta.showmethecode.dto.response.NotificationResponse;
 import com.sparta.showmethecode.dto.response.NotificationsResponse;
+import com.sparta.showmethecode.notification.NotificationCoalescer;
+import com.sparta.showmethecode.notification.NotificationEvent;
+import com.sparta.showmethecode.notification.NotificationWriteBuffer;
+import com.sparta.showmethecode.notification.PendingNotification;
+import com.sparta.showmethecode.notification.ReactiveNotificationHub;
+import com.sparta.showmethecode.notification.SseConnection;
+import com.sparta.showmethecode.notification.SseDispatcher;
+import com.sparta.showmethecode.notification.SseFrame;
 import com.sparta.showmethecode.repository.EmitterRepository;
 import com.sparta.showmethecode.repository.NotificationRepository;
+import com.sparta.showmethecode.repository.UserRepository;
+import com.sparta.showmethecode.repository.querydsl.util.KeysetCursor;
+import com.sparta.showmethecode.util.TransactionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import javax.persistence.EntityNotFoundException;
 import javax.transaction.Transactional;
-import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 
 
@@ -31,66 +49,114 @@ public class NotificationService {
 
     public final EmitterRepository emitterRepository;
     private final NotificationRepository notificationRepository;
-
-    public NotificationService(EmitterRepository emitterRepository, NotificationRepository notificationRepository){
+    private final UserRepository userRepository;
+    private final SseDispatcher sseDispatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationWriteBuffer notificationWriteBuffer;
+    private final NotificationCoalescer notificationCoalescer;
+    private final ReactiveNotificationHub reactiveNotificationHub;
+    private final boolean isBuffered;
+
+    public NotificationService(EmitterRepository emitterRepository, NotificationRepository notificationRepository,
+                               UserRepository userRepository, SseDispatcher sseDispatcher, ApplicationEventPublisher eventPublisher,
+                               NotificationWriteBuffer notificationWriteBuffer, NotificationCoalescer notificationCoalescer,
+                               ReactiveNotificationHub reactiveNotificationHub,
+                               @Value("${notification.persistence.mode:sync}") String persistenceMode){
         this.emitterRepository = emitterRepository;
         this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.sseDispatcher = sseDispatcher;
+        this.eventPublisher = eventPublisher;
+        this.notificationWriteBuffer = notificationWriteBuffer;
+        this.notificationCoalescer = notificationCoalescer;
+        this.reactiveNotificationHub = reactiveNotificationHub;
+        this.isBuffered = "buffered".equalsIgnoreCase(persistenceMode);
     }
 
     public SseEmitter subscribe(Long userId, String lastEventId){
 
         String id = userId + "_" + System.currentTimeMillis();
-        SseEmitter emitter = emitterRepository.save(id, new SseEmitter(DEFAULT_TIMEOUT));
+        Long lastId = parseEventId(lastEventId);
 
-        emitter.onCompletion(() -> emitterRepository.deleteById(id));
-        emitter.onTimeout(() -> emitterRepository.deleteById(id));
+        // 재전송 이벤트를 실시간 이벤트보다 먼저 보내고, 재전송한 이벤트는 실시간으로 다시 보내지 않음
+        SseConnection connection = sseDispatcher.connect(userId, id, new SseEmitter(DEFAULT_TIMEOUT), () -> {
+            List<SseFrame> frames = new ArrayList<>();
 
-        // 503 에러를 방지하기 위한 더미 이벤트 전송
-        sendToClient(emitter, id, "EventStream Created. [userid =" + userId + "]");
+            // 503 에러를 방지하기 위한 더미 이벤트 전송 (Last-Event-ID 가 바뀌지 않도록 ID 없이 전송)
+            frames.add(SseFrame.event(null, "EventStream Created. [userid =" + userId + "]"));
 
-        // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
-        if (!lastEventId.isEmpty()) {
-            Map<String, Object> events = emitterRepository.findAllEventCacheStartWithId(String.valueOf(userId));
-            events.entrySet().stream()
-                    .filter(entry -> lastEventId.compareTo(entry.getKey()) < 0)
-                    .forEach(entry -> sendToClient(emitter, entry.getKey(), entry.getValue()));
-        }
+            // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
+            if (!Objects.isNull(lastId)) {
+                emitterRepository.findAllEventCacheAfter(userId, lastId)
+                        .forEach(event -> frames.add(SseFrame.event(event.getId(), event.getData())));
+            }
+            return frames;
+        });
 
-        return emitter;
+        return connection.getEmitter();
 
     }
 
-    private void sendToClient(SseEmitter emitter, String id, Object data) {
+    /**
+     * 리액티브 SSE 연결 (Flux), 알림 모델과 재전송 버퍼는 SseEmitter 연결과 같다.
+     * SseEmitter 연결과 같이 DEFAULT_TIMEOUT 이 지나면 종료하고, 클라이언트는 Last-Event-ID 로 재연결한다.
+     */
+    public Flux<ServerSentEvent<Object>> subscribeReactive(Long userId, String lastEventId) {
+        return reactiveNotificationHub.connect(userId, parseEventId(lastEventId))
+                .take(Duration.ofMillis(DEFAULT_TIMEOUT));
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId.isEmpty()) {
+            return null;
+        }
         try {
-            emitter.send(SseEmitter.event()
-                    .id(id)
-                    .name("sse")
-                    .data(data));
-        } catch (IOException exception) {
-            emitterRepository.deleteById(id);
-            log.error("SSE 연결 오류!", exception);
+            return Long.valueOf(lastEventId);
+        } catch (NumberFormatException e) {
+            log.warn("유효하지 않은 lastEventId = {}", lastEventId);
+            return null;
         }
     }
 
+    /**
+     * 만료된 재전송 이벤트 정리
+     */
+    @Scheduled(fixedDelay = 1000 * 60)
+    public void deleteExpiredEventCache() {
+        emitterRepository.deleteExpiredEventCache();
+    }
+
+    /**
+     * 알림 저장 및 SSE 전송
+     * buffered 모드에서는 요청 트랜잭션 커밋 이후 쓰기 버퍼에 넣고 일괄 저장한다.
+     * 알림 합치기를 사용하면 커밋 이후 window 동안 같은 리뷰요청의 알림을 모아 쓰기 버퍼로 넘긴다.
+     */
     @Transactional
     public void send(User receiver, ReviewRequest review, String content, MoveUriType type){
         Notification notification = createNotification(receiver, review, content, type);
-        String id = String.valueOf(receiver.getId());
+        Long id = receiver.getId();
 
         log.info("Notification send id = {}, type = {}", id, type.toString());
 
+        if (notificationCoalescer.isEnabled()) {
+            PendingNotification pending = new PendingNotification(id, review.getId(), notification.getContent(), notification.getUrl());
+            TransactionUtils.runAfterCommit(() -> notificationCoalescer.add(pending));
+            return;
+        }
+
+        if (isBuffered) {
+            PendingNotification pending = new PendingNotification(id, review.getId(), notification.getContent(), notification.getUrl());
+            TransactionUtils.runAfterCommit(() -> notificationWriteBuffer.add(pending));
+            return;
+        }
+
         notificationRepository.save(notification);
+        userRepository.increaseUnreadNotificationCount(id, 1);
 
         log.info("Notification id = {}", id);
 
-        Map<String, SseEmitter> sseEmitters = emitterRepository.findAllStarWithById(id);
-        sseEmitters.forEach(
-                (key, emitter) -> {
-                    emitterRepository.saveEventCache(key, notification);
-                    sendToClient(emitter, key, NotificationResponse.from(notification));
-                }
-        );
-
+        // 커밋 이후 NotificationRelay 가 알림 버스로 발행
+        eventPublisher.publishEvent(new NotificationEvent(id, NotificationResponse.from(notification)));
     }
 
     private Notification createNotification(User receiver, ReviewRequest review, String content, MoveUriType type){
@@ -101,6 +167,7 @@ public class NotificationService {
                     .review(review)
                     .url("/details.html?id=" + review.getId())
                     .isRead(false)
+                    .mergedCount(1)
                     .build();
         } else {
             return Notification.builder()
@@ -109,6 +176,7 @@ public class NotificationService {
                     .review(review)
                     .url("/answer.html?id=" + review.getId())
                     .isRead(false)
+                    .mergedCount(1)
                     .build();
         }
     }
@@ -116,22 +184,83 @@ public class NotificationService {
 
 
 
+    /**
+     * 받은 알림 목록 조회 (최신순 커서 페이징)
+     * 빈 커서는 첫 페이지, 다음 페이지가 있으면 nextCursor 를 함께 반환
+     */
+    @Transactional
+    public NotificationsResponse findNotifications(Long userId, String cursor, int size) {
+        KeysetCursor keysetCursor = parseCursor(cursor);
+
+        List<NotificationResponse> responses = notificationRepository.findNotificationsByCursor(userId, keysetCursor, size);
+
+        // size 보다 한 건 더 조회된 경우 다음 페이지가 존재
+        String nextCursor = null;
+        if (responses.size() > size) {
+            responses = responses.subList(0, size);
+            NotificationResponse last = responses.get(size - 1);
+            nextCursor = KeysetCursor.next(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return NotificationsResponse.of(responses, userRepository.getUnreadNotificationCount(userId), nextCursor);
+    }
+
+    /**
+     * 받은 알림 일괄 읽음 처리
+     * 커서가 주어지면 커서 위치까지(커서 포함) 받은 알림만, 빈 커서는 전체 알림을 하나의 UPDATE 쿼리로 처리
+     */
+    @Transactional
+    public long readAllNotifications(Long userId, String cursor) {
+        long row = notificationRepository.markAllAsRead(userId, parseCursor(cursor));
+        if (row > 0) {
+            userRepository.decreaseUnreadNotificationCount(userId, row);
+        }
+        return row;
+    }
+
+    private KeysetCursor parseCursor(String cursor) {
+        if (cursor.isEmpty()) {
+            return null;
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (keysetCursor.isPrev()) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+        return keysetCursor;
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (알림 테이블을 세지 않고 사용자의 반정규화 컬럼만 조회)
+     */
     @Transactional
-    public NotificationsResponse findAllById(Long userId) {
-        List<NotificationResponse> responses = notificationRepository.findAllByReceiverId(userId).stream()
-                .map(NotificationResponse::from)
-                .collect(Collectors.toList());
-        long unreadCount = responses.stream()
-                .filter(notification -> !notification.isRead())
-                .count();
-        return NotificationsResponse.of(responses, unreadCount);
+    public long getUnreadCount(Long userId) {
+        return userRepository.getUnreadNotificationCount(userId);
     }
 
     @Transactional
     public void readNotification(Long id){
         Notification notification = notificationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 알림입니다."));
-        notification.read();
+        Long receiverId = notification.getReceiver().getId();
+
+        if (notificationRepository.markAsRead(id) > 0) {
+            userRepository.decreaseUnreadNotificationCount(receiverId, 1);
+        }
+    }
+
+    /**
+     * 반정규화된 unreadNotificationCount 가 실제 읽지 않은 알림 수와 달라진 경우 복구
+     * 컬럼 추가 직후 기존 알림이 반영되도록 서버 시작 시에도 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void reconcileUnreadNotificationCount() {
+        long row = userRepository.reconcileUnreadNotificationCount();
+        if (row > 0) {
+            log.warn("reconcileUnreadNotificationCount 보정된 사용자 수 = {}", row);
+        }
     }
 
 
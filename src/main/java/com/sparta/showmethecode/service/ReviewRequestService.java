@@ -4,14 +4,23 @@ import com.sparta.showmethecode.domain.MoveUriType;
 import com.sparta.showmethecode.domain.ReviewRequest;
 import com.sparta.showmethecode.domain.ReviewRequestStatus;
 import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.request.ReviewRequestDto;
 import com.sparta.showmethecode.dto.request.ReviewRequestUpdateDto;
 import com.sparta.showmethecode.dto.response.*;
 import com.sparta.showmethecode.repository.ReviewRequestCommentRepository;
+import com.sparta.showmethecode.repository.ReviewRequestCountCache;
+import com.sparta.showmethecode.repository.ReviewRequestDetailCache;
+import com.sparta.showmethecode.repository.ReviewRequestLanguageHistogram;
 import com.sparta.showmethecode.repository.ReviewRequestRepository;
 import com.sparta.showmethecode.repository.UserRepository;
+import com.sparta.showmethecode.repository.querydsl.util.KeysetCursor;
+import com.sparta.showmethecode.search.ReviewRequestSearchIndex;
+import com.sparta.showmethecode.search.ReviewRequestSuggester;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -30,15 +40,20 @@ public class ReviewRequestService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final ReviewRequestCommentRepository reviewRequestCommentRepository;
+    private final ReviewRequestSearchIndex reviewRequestSearchIndex;
+    private final ReviewRequestCountCache reviewRequestCountCache;
+    private final ReviewRequestLanguageHistogram reviewRequestLanguageHistogram;
+    private final ReviewRequestDetailCache reviewRequestDetailCache;
+    private final ReviewRequestSuggester reviewRequestSuggester;
 
     /**
      * 코드리뷰 요청목록 API
      */
     @Transactional(readOnly = true)
-    public PageResponseDto getReviewRequestList(int page, int size, String sortBy, boolean isAsc, ReviewRequestStatus status) {
+    public PageResponseDto getReviewRequestList(int page, int size, String sortBy, boolean isAsc, ReviewRequestStatus status, CountMode countMode) {
         Pageable pageable = makePageable(page, size, sortBy, isAsc);
 
-        Page<ReviewRequestResponseDto> reviewRequestList = reviewRequestRepository.findReviewRequestList(pageable, isAsc, status);
+        Page<ReviewRequestResponseDto> reviewRequestList = reviewRequestRepository.findReviewRequestList(pageable, isAsc, status, countMode);
 
         return new PageResponseDto<ReviewRequestResponseDto>(
                 reviewRequestList.getContent(),
@@ -48,8 +63,45 @@ public class ReviewRequestService {
         );
     }
 
+    /**
+     * 코드리뷰 요청목록 API (커서 기반)
+     * 빈 커서는 첫 페이지, 전체 개수는 조회하지 않음
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDto<ReviewRequestResponseDto> getReviewRequestListByCursor(String cursor, int size, boolean isAsc, ReviewRequestStatus status) {
+        KeysetCursor keysetCursor = cursor.isEmpty() ? null : KeysetCursor.decode(cursor);
+        boolean isPrev = !Objects.isNull(keysetCursor) && keysetCursor.isPrev();
+
+        List<ReviewRequestResponseDto> results = reviewRequestRepository.findReviewRequestListByCursor(keysetCursor, size, isAsc, status);
+
+        // size 보다 한 건 더 조회된 경우 진행방향으로 페이지가 더 존재
+        boolean hasMore = results.size() > size;
+        if (hasMore) {
+            results = isPrev ? results.subList(1, results.size()) : results.subList(0, size);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!results.isEmpty()) {
+            ReviewRequestResponseDto first = results.get(0);
+            ReviewRequestResponseDto last = results.get(results.size() - 1);
+
+            if (isPrev || hasMore) {
+                nextCursor = KeysetCursor.next(last.getCreatedAt(), last.getReviewRequestId()).encode();
+            }
+            if (isPrev ? hasMore : !Objects.isNull(keysetCursor)) {
+                prevCursor = KeysetCursor.prev(first.getCreatedAt(), first.getReviewRequestId()).encode();
+            }
+        }
+
+        return new PageResponseDto<ReviewRequestResponseDto>(
+                results, 0, 0, 0, size, nextCursor, prevCursor
+        );
+    }
+
     /**
      * 코드리뷰 검색 API
+     * 검색 인덱스의 관련도 순으로 정렬, 검색어의 단어 중 하나라도 포함하면 결과에 포함 (ReviewRequestSearchIndex 참고)
      */
     @Transactional(readOnly = true)
     public PageResponseDto<ReviewRequestResponseDto> searchByTitleOrComment(
@@ -57,8 +109,15 @@ public class ReviewRequestService {
             int page, int size, String sortBy, boolean isAsc,
             ReviewRequestStatus status
     ) {
-        Pageable pageable = makePageable(page, size, sortBy, isAsc);
-        Page<ReviewRequestResponseDto> results = reviewRequestRepository.findSearchByTitleOrCommentAdvanced(keyword, pageable, isAsc, status);
+        if (keyword.trim().isEmpty()) {
+            return getReviewRequestList(page, size, sortBy, isAsc, status, CountMode.EXACT);
+        }
+
+        Pageable pageable = PageRequest.of(page, size);
+        ReviewRequestSearchIndex.SearchResult searchResult
+                = reviewRequestSearchIndex.search(keyword, status, pageable.getOffset(), pageable.getPageSize());
+        Page<ReviewRequestResponseDto> results
+                = reviewRequestRepository.findSearchByTitleOrCommentAdvanced(searchResult.getIds(), searchResult.getTotal(), pageable);
 
         return new PageResponseDto<ReviewRequestResponseDto>(
                 results.getContent(),
@@ -66,6 +125,14 @@ public class ReviewRequestService {
         );
     }
 
+    /**
+     * 코드리뷰 검색어 자동완성 API
+     * DB 조회 없이 메모리의 트라이에서 빈도순 상위 size 개 반환
+     */
+    public List<SuggestionResponseDto> suggest(String keyword, int size) {
+        return reviewRequestSuggester.suggest(keyword, size);
+    }
+
     /**
      * 코드리뷰 요청 API
      * SSE 이벤트 포함
@@ -76,10 +143,15 @@ public class ReviewRequestService {
                 () -> new IllegalArgumentException("존재하지 않는 리뷰어입니다.")
         );
 
+        // 요청자는 인증 정보의 User 대신 영속 참조로 연결
         ReviewRequest reviewRequest
-                = new ReviewRequest(user, reviewer, requestDto.getTitle(), requestDto.getContent(), ReviewRequestStatus.UNSOLVE, requestDto.getLanguage().toUpperCase());
+                = new ReviewRequest(userRepository.getOne(user.getId()), reviewer, requestDto.getTitle(), requestDto.getContent(), ReviewRequestStatus.UNSOLVE, requestDto.getLanguage().toUpperCase());
 
         reviewRequestRepository.save(reviewRequest);
+        reviewRequestSearchIndex.indexAfterCommit(reviewRequest);
+        reviewRequestCountCache.invalidateAfterCommit();
+        reviewRequestLanguageHistogram.incrementAfterCommit(reviewRequest.getLanguageName());
+        reviewRequestSuggester.addAfterCommit(reviewRequest.getTitle(), reviewRequest.getLanguageName());
 
         notificationService
                 .send(reviewRequest.getAnswerUser(), reviewRequest, "새로운 리뷰 요청이 도착했습니다!", MoveUriType.ANSWER);
@@ -96,7 +168,11 @@ public class ReviewRequestService {
                     () -> new IllegalArgumentException("존재하지 않는 요청입니다.")
             );
 
+            String oldTitle = reviewRequest.getTitle();
             reviewRequest.update(updateDto);
+            reviewRequestSearchIndex.indexAfterCommit(reviewRequest);
+            reviewRequestSuggester.updateAfterCommit(oldTitle, reviewRequest.getTitle(), reviewRequest.getLanguageName());
+            reviewRequestDetailCache.evictAfterCommit(reviewId);
         }
     }
 
@@ -107,38 +183,48 @@ public class ReviewRequestService {
     public void deleteReviewRequest(Long reviewId, User user){
         boolean isMyRequest = reviewRequestRepository.isMyReviewRequest(reviewId, user);
         if (isMyRequest) {
-            reviewRequestRepository.deleteById(reviewId);
+            ReviewRequest reviewRequest = reviewRequestRepository.findById(reviewId).orElseThrow(
+                    () -> new IllegalArgumentException("존재하지 않는 요청입니다.")
+            );
+
+            reviewRequestRepository.delete(reviewRequest);
+            reviewRequestSearchIndex.removeAfterCommit(reviewId);
+            reviewRequestCountCache.invalidateAfterCommit();
+            reviewRequestLanguageHistogram.decrementAfterCommit(reviewRequest.getLanguageName());
+            reviewRequestDetailCache.evictAfterCommit(reviewId);
+            reviewRequestSuggester.removeAfterCommit(reviewRequest.getTitle(), reviewRequest.getLanguageName());
         }
     }
 
     /**
      * 코드리뷰 단건조회 API (코드리뷰 요청 상세정보)
+     * 캐시에 없는 경우에만 DB 조회
      */
     @Transactional(readOnly = true)
     public ReviewRequestDetailResponseDto getReviewRequest(Long id) {
-        ReviewRequestDetailResponseDto result = reviewRequestRepository.getReviewRequestDetails(id);
+        ReviewRequestDetailResponseDto result = reviewRequestDetailCache.get(id, reviewRequestRepository::getReviewRequestDetails);
         return result;
     }
 
     /**
      * 코드리뷰 요청 언어별 카운팅 API
+     * DB 집계 대신 메모리에 유지중인 언어별 개수를 반환
      */
-    @Transactional(readOnly = true)
     public List<ReviewRequestLanguageCount> getCountGroupByLanguageName() {
-        return reviewRequestRepository.getReviewRequestLanguageCountGroupByLanguage();
+        return reviewRequestLanguageHistogram.getCounts();
     }
 
     /**
      * 코드리뷰 요청 언어이름 검색 API
      */
-    public PageResponseDto<ReviewRequestResponseDto> searchRequestByLanguageName(String language, int page, int size, boolean isAsc) {
+    public PageResponseDto<ReviewRequestResponseDto> searchRequestByLanguageName(String language, int page, int size, boolean isAsc, CountMode countMode) {
         Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
         Sort sort = Sort.by(direction, "createdAt");
         Pageable pageable = PageRequest.of(page, size, sort);
 
         language = language.toUpperCase();
 
-        Page<ReviewRequestResponseDto> reviewRequests = reviewRequestRepository.searchRequestByLanguageName(language, pageable, isAsc);
+        Page<ReviewRequestResponseDto> reviewRequests = reviewRequestRepository.searchRequestByLanguageName(language, pageable, isAsc, countMode);
 
         return new PageResponseDto<ReviewRequestResponseDto>(
                 reviewRequests.getContent(),
@@ -156,6 +242,18 @@ public class ReviewRequestService {
         return reviewRequestAndAnswer;
     }
 
+    /**
+     * 내용 미리보기 컬럼 추가 이전에 등록된 요청서 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void fillEmptyContentPreview() {
+        long row = reviewRequestRepository.fillEmptyContentPreview();
+        if (row > 0) {
+            log.info("fillEmptyContentPreview 보정된 리뷰요청 수 = {}", row);
+        }
+    }
+
     private Pageable makePageable(int page, int size, String sortBy, boolean isAsc) {
         Sort.Direction direction = isAsc ? Sort.Direction.ASC : Sort.Direction.DESC;
         Sort sort = Sort.by(direction, sortBy);
@@ -2,13 +2,18 @@ package com.sparta.showmethecode.service;
 
 import com.sparta.showmethecode.domain.*;
 import com.sparta.showmethecode.dto.request.AddAnswerDto;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.request.UpdateReviewerDto;
 import com.sparta.showmethecode.dto.request.EvaluateAnswerDto;
 import com.sparta.showmethecode.dto.request.UpdateAnswerDto;
 import com.sparta.showmethecode.dto.response.*;
 import com.sparta.showmethecode.repository.ReviewAnswerRepository;
+import com.sparta.showmethecode.repository.ReviewRequestCountCache;
+import com.sparta.showmethecode.repository.ReviewRequestDetailCache;
 import com.sparta.showmethecode.repository.ReviewRequestRepository;
 import com.sparta.showmethecode.repository.UserRepository;
+import com.sparta.showmethecode.search.ReviewRequestSearchIndex;
+import com.sparta.showmethecode.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -19,6 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,6 +36,10 @@ public class ReviewerService {
     private final ReviewRequestRepository reviewRequestRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final ReviewRequestCountCache reviewRequestCountCache;
+    private final ReviewRequestDetailCache reviewRequestDetailCache;
+    private final UserDetailsCache userDetailsCache;
+    private final ReviewRequestSearchIndex reviewRequestSearchIndex;
 
     /**
      * 리뷰요청에 대한 답변등록 API
@@ -50,8 +60,12 @@ public class ReviewerService {
             );
 
             reviewer.increaseAnswerCount();
+            userDetailsCache.evictAfterCommit(reviewer.getUsername());
             reviewRequest.setStatus(ReviewRequestStatus.SOLVE);
+            reviewRequestSearchIndex.updateStatusAfterCommit(reviewId, ReviewRequestStatus.SOLVE);
             reviewRequest.setReviewAnswer(savedReviewAnswer);
+            reviewRequestCountCache.invalidateAfterCommit();
+            reviewRequestDetailCache.evictAfterCommit(reviewId);
 
             notificationService
                     .send(reviewRequest.getRequestUser(), reviewRequest, "리뷰 등록이 완료되었습니다.", MoveUriType.DETAILS);
@@ -73,6 +87,9 @@ public class ReviewerService {
             ReviewRequestStatus status = reviewRequest.getStatus();
             if (!status.equals(ReviewRequestStatus.SOLVE) && !status.equals(ReviewRequestStatus.EVALUATED)) {
                 reviewRequest.setStatus(ReviewRequestStatus.REJECTED);
+                reviewRequestSearchIndex.updateStatusAfterCommit(questionId, ReviewRequestStatus.REJECTED);
+                reviewRequestCountCache.invalidateAfterCommit();
+                reviewRequestDetailCache.evictAfterCommit(questionId);
                 notificationService.send(reviewRequest.getRequestUser(), reviewRequest, "리뷰 요청이 거절되었습니다.", MoveUriType.DETAILS);
             } else {
                 throw new IllegalArgumentException("해결되지 않은 리뷰요청에 대해서만 거절이 가능합니다.");
@@ -168,6 +185,9 @@ public class ReviewerService {
             );
 
             reviewAnswer.update(updateAnswerDto);
+            if (!Objects.isNull(reviewAnswer.getReviewRequest())) {
+                reviewRequestDetailCache.evictAfterCommit(reviewAnswer.getReviewRequest().getId());
+            }
         }
     }
 
@@ -178,9 +198,9 @@ public class ReviewerService {
     /**
      * 나에게 요청온 리뷰 조회
      */
-    public PageResponseDto getMyReceivedRequestList(User user, int page, int size, String sortBy, boolean isAsc, ReviewRequestStatus status) {
+    public PageResponseDto getMyReceivedRequestList(User user, int page, int size, String sortBy, boolean isAsc, ReviewRequestStatus status, CountMode countMode) {
         Pageable pageable = makePageable(page, size, sortBy, isAsc);
-        Page<ReviewRequestResponseDto> reviewRequests = reviewRequestRepository.findMyReceivedRequestList(user.getId(), pageable, status);
+        Page<ReviewRequestResponseDto> reviewRequests = reviewRequestRepository.findMyReceivedRequestList(user.getId(), pageable, status, countMode);
 
         return new PageResponseDto<ReviewRequestResponseDto>(
                 reviewRequests.getContent(),
@@ -207,9 +227,13 @@ public class ReviewerService {
             );
 
             reviewRequest.setStatus(ReviewRequestStatus.EVALUATED);
+            reviewRequestSearchIndex.updateStatusAfterCommit(questionId, ReviewRequestStatus.EVALUATED);
+            reviewRequestCountCache.invalidateAfterCommit();
+            reviewRequestDetailCache.evictAfterCommit(questionId);
 
             reviewAnswer.evaluate(evaluateAnswerDto.getPoint());
             reviewAnswer.getAnswerUser().evaluate(evaluateAnswerDto.getPoint());
+            userDetailsCache.evictAfterCommit(reviewAnswer.getAnswerUser().getUsername());
         }
     }
 
@@ -228,6 +252,8 @@ public class ReviewerService {
         );
 
         reviewRequest.updateReviewer(newReviewer);
+        reviewRequestCountCache.invalidateAfterCommit();
+        reviewRequestDetailCache.evictAfterCommit(questionId);
 
     }
 
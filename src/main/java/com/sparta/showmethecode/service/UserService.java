@@ -3,11 +3,13 @@ package com.sparta.showmethecode.service;
 import com.sparta.showmethecode.domain.ReviewRequestStatus;
 import com.sparta.showmethecode.dto.response.PageResponseDto;
 import com.sparta.showmethecode.security.JwtUtils;
+import com.sparta.showmethecode.security.TokenVersionStore;
 import com.sparta.showmethecode.security.UserDetailsImpl;
 import com.sparta.showmethecode.security.UserDetailsServiceImpl;
 import com.sparta.showmethecode.domain.Language;
 import com.sparta.showmethecode.domain.User;
 import com.sparta.showmethecode.domain.UserRole;
+import com.sparta.showmethecode.dto.request.CountMode;
 import com.sparta.showmethecode.dto.request.SigninRequestDto;
 import com.sparta.showmethecode.dto.request.SignupRequestDto;
 import com.sparta.showmethecode.dto.response.ReviewRequestResponseDto;
@@ -50,6 +52,7 @@ public class UserService {
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
+    private final TokenVersionStore tokenVersionStore;
     private final LanguageRepository languageRepository;
     private final PasswordEncoder passwordEncoder;
 
@@ -92,13 +95,28 @@ public class UserService {
         }
 
         UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(requestDto.getUsername());
-        String token = jwtUtils.createToken(userDetails.getUsername());
+        String token = jwtUtils.createToken(userDetails.getUser());
 
         String authority = userDetails.getAuthorities().stream().findFirst().get().toString();
 
         return new SigninResponseDto(userDetails.getUser().getId(), token, authority, HttpStatus.CREATED, "로그인에 성공했습니다.");
     }
 
+    /**
+     * 로그아웃 시 요청에 사용한 토큰을 폐기
+     */
+    public void logout(String token) {
+        jwtUtils.revokeToken(token);
+    }
+
+    /**
+     * 모든 기기에서 로그아웃, 사용자에게 발급된 토큰을 모두 무효화
+     */
+    @Transactional
+    public void logoutAll(Long userId) {
+        tokenVersionStore.revokeAll(userId);
+    }
+
     public List<String> getMyLanguage(Long userId) {
         return languageRepository.findByUserId(userId);
     }
@@ -124,10 +142,10 @@ public class UserService {
     /**
      * 내가 등록한 리뷰요청목록 조회 API
      */
-    public PageResponseDto<ReviewRequestResponseDto> getMyReviewRequestList(User user, int page, int size, String sortBy, boolean isAsc, ReviewRequestStatus status) {
+    public PageResponseDto<ReviewRequestResponseDto> getMyReviewRequestList(User user, int page, int size, String sortBy, boolean isAsc, ReviewRequestStatus status, CountMode countMode) {
         Pageable pageable = makePageable(page, size, sortBy, isAsc);
 
-        Page<ReviewRequestResponseDto> reviewRequests = reviewRequestRepository.findMyReviewRequestList(user.getId(), pageable, status);
+        Page<ReviewRequestResponseDto> reviewRequests = reviewRequestRepository.findMyReviewRequestList(user.getId(), pageable, status, countMode);
 
         log.info("getMyReviewRequestList = {}", reviewRequests.getContent());
 
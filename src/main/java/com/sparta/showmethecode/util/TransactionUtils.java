@@ -0,0 +1,26 @@
+package com.sparta.showmethecode.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 트랜잭션 안에서는 커밋 이후에 실행 (롤백 시 실행하지 않음), 트랜잭션 밖에서는 즉시 실행
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
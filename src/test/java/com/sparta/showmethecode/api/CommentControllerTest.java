@@ -186,7 +186,7 @@ public class CommentControllerTest {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        return token = jwtUtils.createToken(userDetails.getUsername());
+        return token = jwtUtils.createToken(userDetails.getUser());
     }
 
 }
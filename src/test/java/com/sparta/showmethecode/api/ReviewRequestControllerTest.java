@@ -125,7 +125,7 @@ public class ReviewRequestControllerTest {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        String token = jwtUtils.createToken(userDetails.getUsername());
+        String token = jwtUtils.createToken(userDetails.getUser());
 
         mockMvc.perform(post("/question")
                         .header(HttpHeaders.AUTHORIZATION, TOKEN_PREFIX + token)
@@ -165,7 +165,9 @@ public class ReviewRequestControllerTest {
                                         parameterWithName("size").description("페이지 당 요소수").optional(),
                                         parameterWithName("sortBy").description("정렬기준 필드 이름").optional(),
                                         parameterWithName("isAsc").description("정렬방향").optional(),
-                                        parameterWithName("query").description("코드리뷰요청 목록 검색").optional()
+                                        parameterWithName("query").description("코드리뷰요청 목록 검색").optional(),
+                                        parameterWithName("cursor").description("커서 기반 페이징 커서 (빈 값은 첫 페이지)").optional(),
+                                        parameterWithName("countMode").description("전체 개수 조회 방식 (exact, estimate, none)").optional()
                                 )
                                 , responseFields(
                                         fieldWithPath("totalPage").description("전체 페이지수").type(JsonFieldType.NUMBER),
@@ -178,7 +180,7 @@ public class ReviewRequestControllerTest {
                                         fieldWithPath("data.[].username").description("리뷰요청자_이름").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].nickname").description("리뷰요청자_닉네임").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].title").description("리뷰요청_제목").type(JsonFieldType.STRING),
-                                        fieldWithPath("data.[].content").description("리뷰요청_내용").type(JsonFieldType.STRING),
+                                        fieldWithPath("data.[].content").description("리뷰요청_내용_미리보기").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].languageName").description("리뷰요청_언어").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].status").description("리뷰요청_상태").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].createdAt").description("리뷰요청_날짜").type(JsonFieldType.STRING),
@@ -188,6 +190,60 @@ public class ReviewRequestControllerTest {
                 );
     }
 
+    @Order(2)
+    @DisplayName("2-1. 코드리뷰 요청목록 (커서 기반)")
+    @Test
+    public void 코드리뷰_요청목록_커서() throws Exception {
+
+        mockMvc.perform(get("/questions")
+                        .param("size", "10")
+                        .param("isAsc", "false")
+                        .param("cursor", "")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("get-questions-cursor",
+                                requestParameters(
+                                        parameterWithName("size").description("페이지 당 요소수").optional(),
+                                        parameterWithName("isAsc").description("정렬방향").optional(),
+                                        parameterWithName("cursor").description("이전 응답의 nextCursor 또는 prevCursor (빈 값은 첫 페이지)")
+                                )
+                                , responseFields(
+                                        fieldWithPath("totalPage").description("커서 조회 시 사용하지 않음").type(JsonFieldType.NUMBER),
+                                        fieldWithPath("totalElements").description("커서 조회 시 사용하지 않음").type(JsonFieldType.NUMBER),
+                                        fieldWithPath("page").description("커서 조회 시 사용하지 않음").type(JsonFieldType.NUMBER),
+                                        fieldWithPath("size").description("페이지 당 요소수").type(JsonFieldType.NUMBER),
+                                        fieldWithPath("nextCursor").description("다음 페이지 커서").type(JsonFieldType.STRING).optional(),
+                                        fieldWithPath("prevCursor").description("이전 페이지 커서").type(JsonFieldType.STRING).optional(),
+
+                                        subsectionWithPath("data").description("리뷰요청_데이터")
+                                )
+                        )
+                );
+    }
+
+    @Order(2)
+    @DisplayName("2-2. 코드리뷰 검색어 자동완성")
+    @Test
+    public void 코드리뷰_검색어_자동완성() throws Exception {
+
+        mockMvc.perform(get("/questions/suggest")
+                        .param("keyword", "ja")
+                        .param("size", "5")
+                )
+                .andExpect(status().isOk())
+                .andDo(document("get-questions-suggest",
+                                requestParameters(
+                                        parameterWithName("keyword").description("입력중인 검색어"),
+                                        parameterWithName("size").description("최대 자동완성 개수 (최대 50)").optional()
+                                )
+                                , responseFields(
+                                        fieldWithPath("[].keyword").description("자동완성_단어").type(JsonFieldType.STRING).optional(),
+                                        fieldWithPath("[].frequency").description("단어가_포함된_리뷰요청_수").type(JsonFieldType.NUMBER).optional()
+                                )
+                        )
+                );
+    }
+
     @Order(3)
     @DisplayName("3. 코드리뷰 요청 상세정보 (단건조회) ")
     @Test
@@ -300,7 +356,8 @@ public class ReviewRequestControllerTest {
                                         parameterWithName("language").description("언어이름"),
                                         parameterWithName("page").description("요청_페이지_번호").optional(),
                                         parameterWithName("size").description("페이지_당_요소수").optional(),
-                                        parameterWithName("isAsc").description("정렬방향").optional()
+                                        parameterWithName("isAsc").description("정렬방향").optional(),
+                                        parameterWithName("countMode").description("전체 개수 조회 방식 (exact, estimate, none)").optional()
                                 )
                         )
                 );
@@ -311,7 +368,7 @@ public class ReviewRequestControllerTest {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        return token = jwtUtils.createToken(userDetails.getUsername());
+        return token = jwtUtils.createToken(userDetails.getUser());
     }
 
 }
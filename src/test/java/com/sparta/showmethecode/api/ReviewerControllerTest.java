@@ -264,6 +264,6 @@ public class ReviewerControllerTest {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        return token = jwtUtils.createToken(userDetails.getUsername());
+        return token = jwtUtils.createToken(userDetails.getUser());
     }
 }
@@ -155,7 +155,8 @@ public class UserControllerTest {
                                         parameterWithName("size").description("페이지_당_요소수").optional(),
                                         parameterWithName("sortBy").description("정렬기준_필드_이름").optional(),
                                         parameterWithName("isAsc").description("정렬방향").optional(),
-                                        parameterWithName("status").description("리뷰요청_처리상태").optional()
+                                        parameterWithName("status").description("리뷰요청_처리상태").optional(),
+                                        parameterWithName("countMode").description("전체_개수_조회_방식 (exact, estimate, none)").optional()
                                 ), responseFields(
                                         fieldWithPath("totalPage").description("전체 페이지수").type(JsonFieldType.NUMBER),
                                         fieldWithPath("totalElements").description("전체 요소수").type(JsonFieldType.NUMBER),
@@ -167,7 +168,7 @@ public class UserControllerTest {
                                         fieldWithPath("data.[].username").description("리뷰요청자_이름").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].nickname").description("리뷰요청자_닉네임").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].title").description("리뷰요청_제목").type(JsonFieldType.STRING),
-                                        fieldWithPath("data.[].content").description("리뷰요청_내용").type(JsonFieldType.STRING),
+                                        fieldWithPath("data.[].content").description("리뷰요청_내용_미리보기").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].languageName").description("리뷰요청_언어").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].status").description("리뷰요청_상태").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].createdAt").description("리뷰요청_날짜").type(JsonFieldType.STRING),
@@ -198,7 +199,8 @@ public class UserControllerTest {
                                         parameterWithName("size").description("페이지_당_요소수").optional(),
                                         parameterWithName("sortBy").description("정렬기준_필드_이름").optional(),
                                         parameterWithName("isAsc").description("정렬방향").optional(),
-                                        parameterWithName("status").description("리뷰요청_처리상태").optional()
+                                        parameterWithName("status").description("리뷰요청_처리상태").optional(),
+                                        parameterWithName("countMode").description("전체_개수_조회_방식 (exact, estimate, none)").optional()
                                 ), responseFields(
                                         fieldWithPath("totalPage").description("전체 페이지수").type(JsonFieldType.NUMBER),
                                         fieldWithPath("totalElements").description("전체 요소수").type(JsonFieldType.NUMBER),
@@ -210,7 +212,7 @@ public class UserControllerTest {
                                         fieldWithPath("data.[].username").description("리뷰요청자_이름").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].nickname").description("리뷰요청자_닉네임").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].title").description("리뷰요청_제목").type(JsonFieldType.STRING),
-                                        fieldWithPath("data.[].content").description("리뷰요청_내용").type(JsonFieldType.STRING),
+                                        fieldWithPath("data.[].content").description("리뷰요청_내용_미리보기").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].languageName").description("리뷰요청_언어").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].status").description("리뷰요청_상태").type(JsonFieldType.STRING),
                                         fieldWithPath("data.[].createdAt").description("리뷰요청_날짜").type(JsonFieldType.STRING),
@@ -225,7 +227,7 @@ public class UserControllerTest {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        return token = jwtUtils.createToken(userDetails.getUsername());
+        return token = jwtUtils.createToken(userDetails.getUser());
     }
 
 }
@@ -0,0 +1,116 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.dto.response.NotificationResponse;
+import com.sparta.showmethecode.repository.EmitterRepository;
+import com.sparta.showmethecode.repository.NotificationReplayBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 서버를 한 JVM 안의 애플리케이션 컨텍스트로 띄우고 같은 브로커를 공유시켜
+ * 한 서버에서 발행한 알림이 다른 서버의 SSE 연결로 전달되는지 확인
+ */
+public class NotificationBusMultiNodeTest {
+
+    static final int NODE_COUNT = 3;
+
+    InMemoryNotificationBroker broker;
+    List<AnnotationConfigApplicationContext> nodes;
+
+    @BeforeEach
+    void setUp() {
+        broker = new InMemoryNotificationBroker();
+        nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            AnnotationConfigApplicationContext node = new AnnotationConfigApplicationContext();
+            node.getEnvironment().getPropertySources()
+                    .addFirst(new MapPropertySource("node", Collections.singletonMap("notification.node-id", i)));
+            node.registerBean(InMemoryNotificationBroker.class, () -> broker);
+            node.register(InMemoryNotificationBus.class, EmitterRepository.class, SseDispatcher.class, ReactiveNotificationHub.class, NotificationRelay.class);
+            node.refresh();
+            nodes.add(node);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @DisplayName("다른 서버에 연결된 사용자에게 알림 전달")
+    @Test
+    void 다른_서버로_전달() throws Exception {
+        Long receiverId = 1L;
+        Long otherUserId = 12L;
+        CapturingEmitter receiverOnNode2 = connect(nodes.get(2), receiverId, "1_1");
+        CapturingEmitter otherOnNode1 = connect(nodes.get(1), otherUserId, "12_1");
+
+        NotificationResponse notification = new NotificationResponse(100L, "새로운 리뷰 요청이 도착했습니다!", "/answer.html?id=1", false, LocalDateTime.now(), 1);
+        nodes.get(0).getBean(NotificationRelay.class).publish(new NotificationEvent(receiverId, notification));
+
+        SseEmitter.SseEventBuilder received = receiverOnNode2.events.poll(3, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(otherOnNode1.events.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @DisplayName("모든 서버의 재전송 버퍼에 같은 이벤트 ID 로 저장")
+    @Test
+    void 재전송_버퍼_이벤트_ID_일치() {
+        Long receiverId = 1L;
+        NotificationResponse notification = new NotificationResponse(100L, "리뷰 등록이 완료되었습니다.", "/details.html?id=1", false, LocalDateTime.now(), 1);
+        nodes.get(0).getBean(NotificationRelay.class).publish(new NotificationEvent(receiverId, notification));
+
+        List<Long> eventIds = new ArrayList<>();
+        for (AnnotationConfigApplicationContext node : nodes) {
+            List<NotificationReplayBuffer.ReplayEvent> events = node.getBean(EmitterRepository.class).findAllEventCacheAfter(receiverId, 0);
+            assertThat(events).hasSize(1);
+            eventIds.add(events.get(0).getId());
+        }
+        assertThat(eventIds).containsOnly(eventIds.get(0));
+    }
+
+    @DisplayName("같은 시각에 여러 서버에서 발행해도 이벤트 ID 가 겹치지 않아 모두 재전송 버퍼에 저장")
+    @Test
+    void 서버간_이벤트_ID_충돌_없음() {
+        Long receiverId = 1L;
+        for (int i = 0; i < NODE_COUNT; i++) {
+            NotificationResponse notification = new NotificationResponse(100L + i, "새로운 리뷰 요청이 도착했습니다!", "/answer.html?id=" + i, false, LocalDateTime.now(), 1);
+            nodes.get(i).getBean(NotificationRelay.class).publish(new NotificationEvent(receiverId, notification));
+        }
+
+        for (AnnotationConfigApplicationContext node : nodes) {
+            List<NotificationReplayBuffer.ReplayEvent> events = node.getBean(EmitterRepository.class).findAllEventCacheAfter(receiverId, 0);
+            assertThat(events).hasSize(NODE_COUNT);
+        }
+    }
+
+    private CapturingEmitter connect(AnnotationConfigApplicationContext node, Long userId, String emitterId) {
+        CapturingEmitter emitter = new CapturingEmitter();
+        node.getBean(SseDispatcher.class).connect(userId, emitterId, emitter);
+        return emitter;
+    }
+
+    static class CapturingEmitter extends SseEmitter {
+        final BlockingQueue<SseEventBuilder> events = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.repository.EmitterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.Disposable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReactiveNotificationHubTest {
+
+    EmitterRepository emitterRepository;
+    ReactiveNotificationHub hub;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepository(100, 600_000, 0);
+        hub = new ReactiveNotificationHub(emitterRepository, 64);
+    }
+
+    @DisplayName("같은 사용자의 모든 연결로 전달되고 다른 사용자에게는 전달되지 않음")
+    @Test
+    void 사용자별_전달() {
+        List<ServerSentEvent<Object>> tab1 = new CopyOnWriteArrayList<>();
+        List<ServerSentEvent<Object>> tab2 = new CopyOnWriteArrayList<>();
+        List<ServerSentEvent<Object>> other = new CopyOnWriteArrayList<>();
+        hub.connect(1L, null).subscribe(tab1::add);
+        hub.connect(1L, null).subscribe(tab2::add);
+        hub.connect(12L, null).subscribe(other::add);
+
+        hub.emit(1L, 100L, "알림");
+
+        assertThat(ids(tab1)).containsExactly("100");
+        assertThat(ids(tab2)).containsExactly("100");
+        assertThat(ids(other)).isEmpty();
+        assertThat(hub.countUsers()).isEqualTo(2);
+        assertThat(hub.countConnections()).isEqualTo(3);
+    }
+
+    @DisplayName("Last-Event-ID 이후 이벤트를 재전송한 뒤 실시간 알림을 이어서 전달")
+    @Test
+    void 재전송_후_실시간() {
+        emitterRepository.saveEventCache(1L, 10L, "이전 알림1");
+        emitterRepository.saveEventCache(1L, 20L, "이전 알림2");
+
+        List<ServerSentEvent<Object>> events = new CopyOnWriteArrayList<>();
+        hub.connect(1L, 10L).subscribe(events::add);
+        hub.emit(1L, 30L, "새 알림");
+
+        assertThat(ids(events)).containsExactly("20", "30");
+    }
+
+    @DisplayName("연결이 모두 끊기면 사용자 Sink 제거")
+    @Test
+    void 연결_해제_시_정리() {
+        Disposable connection1 = hub.connect(1L, null).subscribe();
+        Disposable connection2 = hub.connect(1L, null).subscribe();
+
+        connection1.dispose();
+        assertThat(hub.countUsers()).isEqualTo(1);
+
+        connection2.dispose();
+        assertThat(hub.countUsers()).isZero();
+        assertThat(hub.countConnections()).isZero();
+
+        // 연결이 없는 사용자에게 보내도 아무 일도 일어나지 않음
+        hub.emit(1L, 100L, "알림");
+    }
+
+    private List<String> ids(List<ServerSentEvent<Object>> events) {
+        return events.stream()
+                .map(ServerSentEvent::id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
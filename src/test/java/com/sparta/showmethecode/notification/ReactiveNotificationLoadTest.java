@@ -0,0 +1,104 @@
+package com.sparta.showmethecode.notification;
+
+import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.domain.UserRole;
+import com.sparta.showmethecode.repository.UserRepository;
+import com.sparta.showmethecode.security.JwtUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리액티브 SSE 엔드포인트에 실제 HTTP 연결 N 개를 열어두고 연결당 힙 사용량을 기록하는 수동 부하 테스트
+ * 일반 테스트에서는 제외되며 ./gradlew loadTest -PloadTest.connections=N 으로 실행한다.
+ * 힙 사용량은 측정 전후 GC 이후의 근사값이며 환경에 따라 달라지므로 기록만 하고 검증하지 않는다.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.config.location=classpath:/application-test.yml")
+public class ReactiveNotificationLoadTest {
+
+    static final String CREATED_EVENT = "EventStream Created";
+
+    @LocalServerPort
+    int port;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    JwtUtils jwtUtils;
+    @Autowired
+    ReactiveNotificationHub reactiveNotificationHub;
+
+    @DisplayName("유휴 연결 N 개 유지 시 연결당 힙 사용량")
+    @Test
+    void 연결당_힙_사용량() throws IOException {
+        int connections = Integer.getInteger("loadTest.connections", 1000);
+        User user = userRepository.save(new User("load_test_user", "password", "부하테스트", UserRole.ROLE_USER, 0, 0, 0.0));
+        String token = jwtUtils.createToken(user);
+
+        List<Socket> sockets = new ArrayList<>(connections);
+        long before = usedHeap();
+        try {
+            for (int i = 0; i < connections; i++) {
+                sockets.add(open(user.getId(), token));
+            }
+            long after = usedHeap();
+
+            assertThat(reactiveNotificationHub.countConnections()).isEqualTo(connections);
+            log.info("reactive SSE connections = {}, heap = {} KB, per connection = {} bytes",
+                    connections, (after - before) / 1024, (after - before) / connections);
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    /**
+     * 연결 후 첫 이벤트를 받을 때까지 읽고 연결을 유지
+     */
+    private Socket open(Long userId, String token) throws IOException {
+        Socket socket = new Socket("localhost", port);
+        socket.setSoTimeout(10_000);
+
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /subscribe/reactive/" + userId + " HTTP/1.1\r\n" +
+                "Host: localhost\r\n" +
+                "Accept: text/event-stream\r\n" +
+                "Authorization: Bearer " + token + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+
+        InputStream in = socket.getInputStream();
+        StringBuilder received = new StringBuilder();
+        byte[] buffer = new byte[1024];
+        while (received.indexOf(CREATED_EVENT) < 0) {
+            int read = in.read(buffer);
+            if (read < 0) {
+                throw new IOException("첫 이벤트 수신 전 연결 종료: " + received);
+            }
+            received.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+        }
+        return socket;
+    }
+
+    private long usedHeap() {
+        ManagementFactory.getMemoryMXBean().gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
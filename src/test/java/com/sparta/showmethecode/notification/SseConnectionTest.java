@@ -0,0 +1,53 @@
+package com.sparta.showmethecode.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SseConnectionTest {
+
+    @DisplayName("재전송 중 도착한 실시간 프레임은 재전송 뒤에 보내고 재전송한 이벤트는 다시 보내지 않음")
+    @Test
+    void 재전송_후_보류한_실시간_프레임() {
+        SseConnection connection = new SseConnection(1L, "1_1", new SseEmitter(), 64);
+        connection.hold();
+
+        // 재전송 목록을 읽는 사이에 도착한 실시간 이벤트 (20 은 재전송 목록에도 포함됨)
+        assertThat(connection.offer(SseFrame.event(20L, "이전 알림2"))).isTrue();
+        assertThat(connection.offer(SseFrame.event(30L, "새 알림"))).isTrue();
+        assertThat(connection.queueSize()).isZero();
+
+        connection.release(Arrays.asList(
+                SseFrame.event(null, "EventStream Created."),
+                SseFrame.event(20L, "이전 알림2")
+        ));
+        connection.offer(SseFrame.event(40L, "새 알림2"));
+
+        assertThat(drainIds(connection)).containsExactly(null, 20L, 30L, 40L);
+    }
+
+    @DisplayName("보류 중에도 연결별 대기열 크기를 넘으면 거절")
+    @Test
+    void 보류_대기열_초과() {
+        SseConnection connection = new SseConnection(1L, "1_1", new SseEmitter(), 1);
+        connection.hold();
+
+        assertThat(connection.offer(SseFrame.event(1L, "알림1"))).isTrue();
+        assertThat(connection.offer(SseFrame.event(2L, "알림2"))).isFalse();
+    }
+
+    private List<Long> drainIds(SseConnection connection) {
+        List<Long> ids = new ArrayList<>();
+        SseFrame frame;
+        while ((frame = connection.poll()) != null) {
+            ids.add(frame.getId());
+        }
+        return ids;
+    }
+}
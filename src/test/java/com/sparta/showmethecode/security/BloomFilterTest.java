@@ -0,0 +1,76 @@
+package com.sparta.showmethecode.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BloomFilterTest {
+
+    static final int ENTRIES = 10_000;
+    static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단 (false negative 없음)")
+    @Test
+    void 추가한_값_항상_포함() {
+        BloomFilter bloomFilter = new BloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        List<TokenDigest> digests = digests("token-", ENTRIES);
+        digests.forEach(bloomFilter::put);
+
+        assertThat(digests).allMatch(bloomFilter::mightContain);
+    }
+
+    @DisplayName("오탐률은 설정값 근처로 유지")
+    @Test
+    void 오탐률() {
+        BloomFilter bloomFilter = new BloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        digests("token-", ENTRIES).forEach(bloomFilter::put);
+
+        long falsePositives = digests("absent-", ENTRIES).stream().filter(bloomFilter::mightContain).count();
+
+        assertThat((double) falsePositives / ENTRIES).isLessThan(FALSE_POSITIVE_RATE * 3);
+    }
+
+    @DisplayName("만료 항목 정리로 블룸필터를 다시 만든 뒤에도 남은 토큰은 폐기 상태 유지")
+    @Test
+    void 재생성_후_false_negative_없음(@TempDir Path dir) throws InterruptedException {
+        TokenRevocationStore store = new TokenRevocationStore(new NoopBus(), dir.resolve("revoked-tokens.dat").toString(), 100);
+        long now = System.currentTimeMillis();
+
+        List<TokenDigest> remained = digests("remained-", 1_000);
+        List<TokenDigest> expiring = digests("expiring-", 1_000);
+        remained.forEach(digest -> store.revoke(digest, now + 60_000));
+        expiring.forEach(digest -> store.revoke(digest, now + 200));
+
+        Thread.sleep(300);
+        store.removeExpired();
+
+        assertThat(store.size()).isEqualTo(remained.size());
+        assertThat(remained).allMatch(store::isRevoked);
+        assertThat(expiring).noneMatch(store::isRevoked);
+    }
+
+    private List<TokenDigest> digests(String prefix, int count) {
+        List<TokenDigest> digests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            digests.add(TokenDigest.of(prefix + i));
+        }
+        return digests;
+    }
+
+    static class NoopBus implements TokenRevocationBus {
+        @Override
+        public void publish(TokenRevocationMessage message) {
+        }
+
+        @Override
+        public void subscribe(Consumer<TokenRevocationMessage> subscriber) {
+        }
+    }
+}
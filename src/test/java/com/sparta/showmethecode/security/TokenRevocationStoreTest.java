@@ -0,0 +1,102 @@
+package com.sparta.showmethecode.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TokenRevocationStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @DisplayName("스냅샷 저장 후 재시작하면 만료되지 않은 폐기 토큰만 복구")
+    @Test
+    void 스냅샷_복구() throws InterruptedException {
+        Path path = dir.resolve("revoked-tokens.dat");
+        TokenRevocationStore store = store(new BloomFilterTest.NoopBus(), path);
+        long now = System.currentTimeMillis();
+
+        TokenDigest revoked = TokenDigest.of("revoked");
+        TokenDigest expiring = TokenDigest.of("expiring");
+        store.revoke(revoked, now + 60_000);
+        store.revoke(expiring, now + 200);
+        Thread.sleep(300);
+        store.saveSnapshot();
+
+        TokenRevocationStore restarted = store(new BloomFilterTest.NoopBus(), path);
+
+        assertThat(restarted.size()).isEqualTo(1);
+        assertThat(restarted.isRevoked(revoked)).isTrue();
+        assertThat(restarted.isRevoked(expiring)).isFalse();
+        assertThat(restarted.isRevoked(TokenDigest.of("other"))).isFalse();
+    }
+
+    @DisplayName("이미 만료된 토큰은 보관하지 않음")
+    @Test
+    void 만료된_토큰_무시() {
+        TokenRevocationStore store = store(new BloomFilterTest.NoopBus(), dir.resolve("revoked-tokens.dat"));
+        TokenDigest digest = TokenDigest.of("expired");
+
+        store.revoke(digest, System.currentTimeMillis() - 1);
+
+        assertThat(store.size()).isZero();
+        assertThat(store.isRevoked(digest)).isFalse();
+    }
+
+    @DisplayName("스냅샷을 읽을 수 없으면 시작 실패")
+    @Test
+    void 손상된_스냅샷() throws IOException {
+        Path path = dir.resolve("revoked-tokens.dat");
+        Files.write(path, new byte[]{0, 0});
+
+        TokenRevocationStore store = new TokenRevocationStore(new BloomFilterTest.NoopBus(), path.toString(), 100);
+
+        assertThatThrownBy(store::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("한 서버에서 폐기한 토큰은 다른 서버에서도 폐기 상태")
+    @Test
+    void 서버간_전달() {
+        InMemoryTokenRevocationBroker broker = new InMemoryTokenRevocationBroker();
+        TokenRevocationStore node1 = store(new BrokerBus(broker), dir.resolve("node1.dat"));
+        TokenRevocationStore node2 = store(new BrokerBus(broker), dir.resolve("node2.dat"));
+        TokenDigest digest = TokenDigest.of("logout");
+
+        node1.revoke(digest, System.currentTimeMillis() + 60_000);
+
+        assertThat(node1.isRevoked(digest)).isTrue();
+        assertThat(node2.isRevoked(digest)).isTrue();
+    }
+
+    private TokenRevocationStore store(TokenRevocationBus bus, Path path) {
+        TokenRevocationStore store = new TokenRevocationStore(bus, path.toString(), 100);
+        store.init();
+        return store;
+    }
+
+    static class BrokerBus implements TokenRevocationBus {
+        private final InMemoryTokenRevocationBroker broker;
+
+        BrokerBus(InMemoryTokenRevocationBroker broker) {
+            this.broker = broker;
+        }
+
+        @Override
+        public void publish(TokenRevocationMessage message) {
+            broker.publish(message);
+        }
+
+        @Override
+        public void subscribe(Consumer<TokenRevocationMessage> subscriber) {
+            broker.subscribe(subscriber);
+        }
+    }
+}
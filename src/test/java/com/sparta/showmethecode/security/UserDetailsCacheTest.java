@@ -0,0 +1,75 @@
+package com.sparta.showmethecode.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class UserDetailsCacheTest {
+
+    @DisplayName("조회 중 다른 사용자가 무효화되어도 조회한 사용자는 캐시")
+    @Test
+    void 다른_사용자_무효화() {
+        CountingUserDetailsService service = new CountingUserDetailsService();
+        UserDetailsCache cache = new UserDetailsCache(service, 60_000);
+        service.onLoad = username -> cache.evict("other");
+
+        cache.get("user");
+        cache.get("user");
+
+        assertThat(service.loads.get("user")).isEqualTo(1);
+    }
+
+    @DisplayName("조회 중 같은 사용자가 무효화되면 조회 결과를 캐시하지 않음")
+    @Test
+    void 같은_사용자_무효화() {
+        CountingUserDetailsService service = new CountingUserDetailsService();
+        UserDetailsCache cache = new UserDetailsCache(service, 60_000);
+        service.onLoad = cache::evict;
+
+        cache.get("user");
+        service.onLoad = username -> { };
+        cache.get("user");
+        cache.get("user");
+
+        assertThat(service.loads.get("user")).isEqualTo(2);
+    }
+
+    @DisplayName("무효화 이후 다시 조회하면 새로 읽어 캐시")
+    @Test
+    void 무효화_후_재조회() {
+        CountingUserDetailsService service = new CountingUserDetailsService();
+        UserDetailsCache cache = new UserDetailsCache(service, 60_000);
+
+        cache.get("user");
+        cache.evict("user");
+        cache.get("user");
+        cache.get("user");
+
+        assertThat(service.loads.get("user")).isEqualTo(2);
+    }
+
+    static class CountingUserDetailsService extends UserDetailsServiceImpl {
+
+        final Map<String, Integer> loads = new HashMap<>();
+        Consumer<String> onLoad = username -> { };
+
+        CountingUserDetailsService() {
+            super(null);
+        }
+
+        @Override
+        public UserDetails loadUserByUsername(String username) {
+            loads.merge(username, 1, Integer::sum);
+            onLoad.accept(username);
+            return new User(username, "password", Collections.emptyList());
+        }
+    }
+}
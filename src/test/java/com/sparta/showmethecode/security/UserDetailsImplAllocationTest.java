@@ -0,0 +1,64 @@
+package com.sparta.showmethecode.security;
+
+import com.sparta.showmethecode.domain.User;
+import com.sparta.showmethecode.domain.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * getAuthorities() 가 호출마다 권한 목록을 새로 만들지 않는지 스레드 할당량으로 확인
+ */
+public class UserDetailsImplAllocationTest {
+
+    static final int CALLS = 1_000_000;
+    // 호출마다 목록을 만들면 수십 MB 가 할당되므로 측정 오차만 허용
+    static final long MAX_ALLOCATED_BYTES = 64 * 1024;
+
+    @DisplayName("권한 목록 조회 시 객체를 할당하지 않음")
+    @Test
+    void 권한_조회_할당_없음() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        UserDetailsImpl userDetails = new UserDetailsImpl(User.builder().username("user").role(UserRole.ROLE_USER).build());
+
+        // JIT 컴파일 이후 측정
+        int sink = call(userDetails);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        sink += call(userDetails);
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertThat(sink).isEqualTo(CALLS * 2);
+        assertThat(allocated).isLessThan(MAX_ALLOCATED_BYTES);
+    }
+
+    @DisplayName("같은 권한의 사용자는 권한 목록 인스턴스를 공유")
+    @Test
+    void 권한_목록_공유() {
+        UserDetailsImpl user1 = new UserDetailsImpl(User.builder().username("user1").role(UserRole.ROLE_REVIEWER).build());
+        UserDetailsImpl user2 = new UserDetailsImpl(User.builder().username("user2").role(UserRole.ROLE_REVIEWER).build());
+
+        assertThat(user1.getAuthorities()).isSameAs(user2.getAuthorities());
+        assertThat(user1.getAuthorities()).extracting("authority").containsExactly(UserRole.ROLE_REVIEWER.toString());
+    }
+
+    private int call(UserDetailsImpl userDetails) {
+        int size = 0;
+        for (int i = 0; i < CALLS; i++) {
+            Collection<?> authorities = userDetails.getAuthorities();
+            size += authorities.size();
+        }
+        return size;
+    }
+}